@@ -0,0 +1,228 @@
+/*
+ * Paranoia
+ * Copyright (C) 2020 ChampionAsh5357
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as 
+ * published by the Free Software Foundation version 3.0 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.championash5357.paranoia.api.callback;
+
+import java.util.*;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.util.ResourceLocation;
+
+/**
+ * An immutable index of every registered {@link SanityCallback}.
+ * Each callback is given an ordinal in the order it was registered
+ * and the ordinals are sorted by their starting and stopping sanity
+ * levels. As sanity levels are bounded, the position of each
+ * level within the sorted ordinals is stored densely so that a
+ * sanity change can look up the callbacks whose ranges it crosses
+ * with a single array access. For internal use only.
+ */
+public final class CallbackIndex {
+
+	private final ResourceLocation[] ids;
+	private final Function<ResourceLocation, SanityCallback>[] suppliers;
+	private final Map<ResourceLocation, Integer> ordinals = new HashMap<>();
+	private final int[] startSanity, stopSanity;
+	private static final int MAX_DENSE_RANGE = 4096;
+	private final int[] byStart, sortedStarts, byStop, sortedStops;
+	private final int minLevel;
+	@Nullable
+	private final int[] startPositions, stopPositions; // Indexed by sanity level - minLevel
+
+	@SuppressWarnings("unchecked")
+	CallbackIndex(Map<ResourceLocation, Function<ResourceLocation, SanityCallback>> callbacks) {
+		int size = callbacks.size();
+		this.ids = new ResourceLocation[size];
+		this.suppliers = new Function[size];
+		this.startSanity = new int[size];
+		this.stopSanity = new int[size];
+		int ordinal = 0;
+		for(Map.Entry<ResourceLocation, Function<ResourceLocation, SanityCallback>> entry : callbacks.entrySet()) {
+			SanityCallback callback = entry.getValue().apply(entry.getKey());
+			this.ids[ordinal] = entry.getKey();
+			this.suppliers[ordinal] = entry.getValue();
+			this.startSanity[ordinal] = callback.getStartSanity();
+			this.stopSanity[ordinal] = callback.getStopSanity();
+			this.ordinals.put(entry.getKey(), ordinal++);
+		}
+		this.byStart = sort(this.startSanity);
+		this.sortedStarts = gather(this.startSanity, this.byStart);
+		this.byStop = sort(this.stopSanity);
+		this.sortedStops = gather(this.stopSanity, this.byStop);
+		int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+		for(int i = 0; i < size; ++i) {
+			min = Math.min(min, Math.min(this.startSanity[i], this.stopSanity[i]));
+			max = Math.max(max, Math.max(this.startSanity[i], this.stopSanity[i]));
+		}
+		this.minLevel = min;
+		if(size > 0 && (long) max - min < MAX_DENSE_RANGE) {
+			this.startPositions = positions(this.sortedStarts, min, max);
+			this.stopPositions = positions(this.sortedStops, min, max);
+		} else this.startPositions = this.stopPositions = null;
+	}
+
+	private static int[] positions(int[] sorted, int min, int max) {
+		int[] positions = new int[max - min + 1];
+		for(int level = min; level <= max; ++level) positions[level - min] = lowerBound(sorted, level);
+		return positions;
+	}
+
+	/**
+	 * Finds the first index within the sorted keys whose value
+	 * is greater than or equal to the key, using the dense
+	 * positions if the key is within the range.
+	 */
+	private int find(int[] sorted, @Nullable int[] positions, int key) {
+		if(positions == null) return lowerBound(sorted, key);
+		if(key <= this.minLevel) return 0;
+		if(key - this.minLevel >= positions.length) return sorted.length;
+		return positions[key - this.minLevel];
+	}
+
+	private static int[] sort(int[] keys) {
+		Integer[] order = new Integer[keys.length];
+		for(int i = 0; i < order.length; ++i) order[i] = i;
+		Arrays.sort(order, Comparator.<Integer>comparingInt(i -> keys[i]).thenComparingInt(i -> i));
+		int[] sorted = new int[order.length];
+		for(int i = 0; i < sorted.length; ++i) sorted[i] = order[i];
+		return sorted;
+	}
+
+	private static int[] gather(int[] keys, int[] order) {
+		int[] sorted = new int[order.length];
+		for(int i = 0; i < sorted.length; ++i) sorted[i] = keys[order[i]];
+		return sorted;
+	}
+
+	/**
+	 * Finds the first index within the sorted keys whose
+	 * value is greater than or equal to the key.
+	 */
+	private static int lowerBound(int[] sorted, int key) {
+		int low = 0, high = sorted.length;
+		while(low < high) {
+			int middle = (low + high) >>> 1;
+			if(sorted[middle] < key) low = middle + 1;
+			else high = middle;
+		}
+		return low;
+	}
+
+	/**
+	 * Gets the number of registered callbacks.
+	 * 
+	 * @return The number of callbacks.
+	 */
+	public int size() {
+		return this.ids.length;
+	}
+
+	/**
+	 * Gets the ordinal of the callback.
+	 * 
+	 * @param id The id of the callback.
+	 * @return The ordinal of the callback, or -1 if it is not registered.
+	 */
+	public int getOrdinal(ResourceLocation id) {
+		Integer ordinal = this.ordinals.get(id);
+		return ordinal != null ? ordinal : -1;
+	}
+
+	/**
+	 * Gets the id of the callback.
+	 * 
+	 * @param ordinal The ordinal of the callback.
+	 * @return The id of the callback.
+	 */
+	public ResourceLocation getId(int ordinal) {
+		return this.ids[ordinal];
+	}
+
+	/**
+	 * Gets the sanity level the callback is loaded at.
+	 * 
+	 * @param ordinal The ordinal of the callback.
+	 * @return The starting sanity level.
+	 */
+	public int getStartSanity(int ordinal) {
+		return this.startSanity[ordinal];
+	}
+
+	/**
+	 * Gets the sanity level the callback is unloaded at.
+	 * 
+	 * @param ordinal The ordinal of the callback.
+	 * @return The stopping sanity level.
+	 */
+	public int getStopSanity(int ordinal) {
+		return this.stopSanity[ordinal];
+	}
+
+	/**
+	 * Constructs a new instance of the callback.
+	 * 
+	 * @param ordinal The ordinal of the callback.
+	 * @return The constructed callback.
+	 */
+	public SanityCallback create(int ordinal) {
+		return this.suppliers[ordinal].apply(this.ids[ordinal]);
+	}
+
+	/**
+	 * Gets the first position within the start order whose
+	 * callback starts at or above the sanity level.
+	 * 
+	 * @param sanity The sanity level.
+	 * @return A position within the start order.
+	 */
+	public int findStart(int sanity) {
+		return this.find(this.sortedStarts, this.startPositions, sanity);
+	}
+
+	/**
+	 * Gets the ordinal at the position within the start order.
+	 * 
+	 * @param position The position within the start order.
+	 * @return The ordinal of the callback.
+	 */
+	public int getByStart(int position) {
+		return this.byStart[position];
+	}
+
+	/**
+	 * Gets the first position within the stop order whose
+	 * callback stops at or above the sanity level.
+	 * 
+	 * @param sanity The sanity level.
+	 * @return A position within the stop order.
+	 */
+	public int findStop(int sanity) {
+		return this.find(this.sortedStops, this.stopPositions, sanity);
+	}
+
+	/**
+	 * Gets the ordinal at the position within the stop order.
+	 * 
+	 * @param position The position within the stop order.
+	 * @return The ordinal of the callback.
+	 */
+	public int getByStop(int position) {
+		return this.byStop[position];
+	}
+}
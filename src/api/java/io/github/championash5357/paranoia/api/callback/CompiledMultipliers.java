@@ -0,0 +1,195 @@
+/*
+ * Paranoia
+ * Copyright (C) 2020 ChampionAsh5357
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as 
+ * published by the Free Software Foundation version 3.0 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.championash5357.paranoia.api.callback;
+
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+import io.github.championash5357.paranoia.api.sanity.ISanity;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+
+/**
+ * The multipliers registered within {@link SanityCallbacks}
+ * frozen into ordered arrays. Multipliers which only depend
+ * on the world are cached per world and recomputed only once
+ * one of their dependencies has changed. For internal use only.
+ */
+public class CompiledMultipliers {
+
+	private final Multiplier[] worldMultipliers, playerMultipliers;
+	private final boolean dependsOnWeather, dependsOnTime;
+	private final Map<World, WorldMultipliers> worlds = new WeakHashMap<>();
+
+	CompiledMultipliers(List<Multiplier> multipliers) {
+		this.worldMultipliers = multipliers.stream().filter(multiplier -> !multiplier.dependsOn(MultiplierDependency.PLAYER)).toArray(Multiplier[]::new);
+		this.playerMultipliers = multipliers.stream().filter(multiplier -> multiplier.dependsOn(MultiplierDependency.PLAYER)).toArray(Multiplier[]::new);
+		boolean weather = false, time = false;
+		for(Multiplier multiplier : this.worldMultipliers) {
+			weather |= multiplier.dependsOn(MultiplierDependency.WEATHER);
+			time |= multiplier.dependsOn(MultiplierDependency.TIME_OF_DAY);
+		}
+		this.dependsOnWeather = weather;
+		this.dependsOnTime = time;
+	}
+
+	/**
+	 * Returns if any multiplier has to be evaluated for
+	 * each player separately.
+	 * 
+	 * @return If there are player dependent multipliers.
+	 */
+	public boolean hasPlayerMultipliers() {
+		return this.playerMultipliers.length != 0;
+	}
+
+	/**
+	 * Gets the cached multipliers of the world.
+	 * 
+	 * @param world The world.
+	 * @return The cached multipliers.
+	 */
+	public WorldMultipliers getWorld(World world) {
+		return this.worlds.computeIfAbsent(world, w -> new WorldMultipliers());
+	}
+
+	/**
+	 * Gets the product of all player dependent multipliers.
+	 * 
+	 * @param player The server player.
+	 * @param sanity The sanity instance.
+	 * @param negative If the threshold the multiplier is applied to is negative.
+	 * @return The multiplier.
+	 */
+	public double getPlayerMultiplier(ServerPlayerEntity player, ISanity sanity, boolean negative) {
+		return multiply(this.playerMultipliers, player, sanity, negative);
+	}
+
+	private static double multiply(Multiplier[] multipliers, ServerPlayerEntity player, ISanity sanity, boolean negative) {
+		double product = 1.0;
+		for(Multiplier multiplier : multipliers)
+			if(multiplier.condition.test(player)) product *= MathHelper.clamp(1 + (negative ? 1 : -1) * multiplier.get(player, sanity), 0.0, 2.0);
+		return product;
+	}
+
+	/**
+	 * The product of all world dependent multipliers
+	 * within a single world.
+	 */
+	public class WorldMultipliers {
+
+		private long tick = -1, dayTime;
+		private boolean computed, raining, thundering;
+		private double positive = 1.0, negative = 1.0;
+		private int version;
+
+		private WorldMultipliers() {}
+
+		/**
+		 * Recomputes the multipliers if one of their dependencies
+		 * has changed. Only checks once per tick.
+		 * 
+		 * @param player A server player within the world.
+		 * @param sanity The sanity instance of the player.
+		 * @param tick The current server tick.
+		 */
+		public void update(ServerPlayerEntity player, ISanity sanity, long tick) {
+			if(this.tick == tick) return;
+			this.tick = tick;
+			World world = player.world;
+			boolean dirty = !this.computed;
+			if(dependsOnWeather && (world.isRaining() != this.raining || world.isThundering() != this.thundering)) {
+				this.raining = world.isRaining();
+				this.thundering = world.isThundering();
+				dirty = true;
+			}
+			if(dependsOnTime && world.getDayTime() != this.dayTime) {
+				this.dayTime = world.getDayTime();
+				dirty = true;
+			}
+			if(!dirty) return;
+			this.computed = true;
+			double positive = multiply(worldMultipliers, player, sanity, false), negative = multiply(worldMultipliers, player, sanity, true);
+			if(positive != this.positive || negative != this.negative) {
+				this.positive = positive;
+				this.negative = negative;
+				this.version++;
+			}
+		}
+
+		/**
+		 * Gets the multiplier for a positive threshold.
+		 * 
+		 * @return The multiplier.
+		 */
+		public double getPositive() {
+			return this.positive;
+		}
+
+		/**
+		 * Gets the multiplier for a negative threshold.
+		 * 
+		 * @return The multiplier.
+		 */
+		public double getNegative() {
+			return this.negative;
+		}
+
+		/**
+		 * Gets a number which changes whenever the
+		 * multipliers have changed.
+		 * 
+		 * @return The version of the multipliers.
+		 */
+		public int getVersion() {
+			return this.version;
+		}
+	}
+
+	static class Multiplier {
+
+		private final Predicate<ServerPlayerEntity> condition;
+		private final double constant;
+		@Nullable
+		private final BiFunction<ServerPlayerEntity, ISanity, Double> function;
+		private final int dependencies;
+
+		Multiplier(Predicate<ServerPlayerEntity> condition, double constant, @Nullable BiFunction<ServerPlayerEntity, ISanity, Double> function, MultiplierDependency... dependencies) {
+			this.condition = condition;
+			this.constant = constant;
+			this.function = function;
+			int mask = dependencies.length == 0 ? 1 << MultiplierDependency.PLAYER.ordinal() : 0;
+			for(MultiplierDependency dependency : dependencies) mask |= 1 << dependency.ordinal();
+			this.dependencies = mask;
+		}
+
+		private boolean dependsOn(MultiplierDependency dependency) {
+			return (this.dependencies & (1 << dependency.ordinal())) != 0;
+		}
+
+		private double get(ServerPlayerEntity player, ISanity sanity) {
+			return this.function != null ? this.function.apply(player, sanity) : this.constant;
+		}
+	}
+}
@@ -0,0 +1,45 @@
+/*
+ * Paranoia
+ * Copyright (C) 2020 ChampionAsh5357
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as 
+ * published by the Free Software Foundation version 3.0 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.championash5357.paranoia.api.callback;
+
+/**
+ * The inputs a sanity multiplier can depend on. Multipliers
+ * which only depend on the world they are in are evaluated
+ * once per world and only again once one of their inputs
+ * has changed.
+ */
+public enum MultiplierDependency {
+	/**
+	 * The dimension the player is in.
+	 */
+	DIMENSION,
+	/**
+	 * Whether it is raining or thundering within the world.
+	 */
+	WEATHER,
+	/**
+	 * The time of day within the world.
+	 */
+	TIME_OF_DAY,
+	/**
+	 * Anything else about the player or their sanity. Multipliers
+	 * with this dependency are evaluated for every player each
+	 * time their sanity is updated.
+	 */
+	PLAYER;
+}
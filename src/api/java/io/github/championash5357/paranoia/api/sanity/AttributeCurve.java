@@ -0,0 +1,90 @@
+/*
+ * Paranoia
+ * Copyright (C) 2020 ChampionAsh5357
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as 
+ * published by the Free Software Foundation version 3.0 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.championash5357.paranoia.api.sanity;
+
+import java.util.Arrays;
+
+import net.minecraft.util.math.MathHelper;
+
+/**
+ * The amplifier of an attribute modifier for every sanity
+ * level. Compiled on reload from either the registered
+ * amplifier or the attributes data file. Sanity levels
+ * outside of the table use the closest level within it.
+ */
+public final class AttributeCurve {
+
+	private final double[] values; // Indexed by sanity minus the offset
+	private final int offset;
+	private final int[] changePoints; // Sorted sanity levels whose amplifier differs from the level below
+
+	AttributeCurve(double[] values, int offset) {
+		this.values = values;
+		this.offset = offset;
+		int[] changePoints = new int[values.length];
+		int count = 0;
+		for(int i = 1; i < values.length; ++i)
+			if(Double.compare(values[i], values[i - 1]) != 0) changePoints[count++] = i + offset;
+		this.changePoints = Arrays.copyOf(changePoints, count);
+	}
+
+	/**
+	 * Gets the amplifier at the sanity level.
+	 * 
+	 * @param sanity The current sanity level.
+	 * @return The amplifier of the modifier.
+	 */
+	public double getAmplifier(int sanity) {
+		return this.values[MathHelper.clamp(sanity - this.offset, 0, this.values.length - 1)];
+	}
+
+	/**
+	 * Checks whether the amplifier changes anywhere between
+	 * the two sanity levels.
+	 * 
+	 * @param from The previous sanity level.
+	 * @param to The current sanity level.
+	 * @return If the amplifier may differ between the two levels.
+	 */
+	public boolean changesBetween(int from, int to) {
+		return hasChangePoint(this.changePoints, from, to);
+	}
+
+	int[] getChangePoints() {
+		return this.changePoints;
+	}
+
+	double[] getValues() {
+		return this.values;
+	}
+
+	int getOffset() {
+		return this.offset;
+	}
+
+	/**
+	 * Checks whether any of the sorted change points lies
+	 * above the lower and at or below the higher sanity level.
+	 */
+	static boolean hasChangePoint(int[] changePoints, int from, int to) {
+		int low = Math.min(from, to), high = Math.max(from, to);
+		int index = Arrays.binarySearch(changePoints, low + 1);
+		if(index < 0) index = -index - 1;
+		return index < changePoints.length && changePoints[index] <= high;
+	}
+}
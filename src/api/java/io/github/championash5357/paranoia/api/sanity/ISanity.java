@@ -18,6 +18,7 @@
 package io.github.championash5357.paranoia.api.sanity;
 
 import io.github.championash5357.paranoia.api.util.ITickable;
+import io.github.championash5357.paranoia.api.util.TickableIds;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.util.ResourceLocation;
@@ -167,6 +168,28 @@ public interface ISanity extends INBTSerializable<CompoundNBT> {
 	 */
 	boolean removeTemporaryTickable(ResourceLocation location);
 	
+	/**
+	 * Adds a temporary tickable that will be called
+	 * every tick. Does not stop ticking until removed.
+	 * 
+	 * @param id The interned id of the tickable from {@link TickableIds#intern(ResourceLocation)}.
+	 * @param tickable The tickable instance.
+	 */
+	default void addTemporaryTickable(int id, ITickable tickable) {
+		this.addTemporaryTickable(TickableIds.getLocation(id), tickable);
+	}
+	
+	/**
+	 * Removes a temporary tickable. If not present,
+	 * logs the inconsistency in data.
+	 * 
+	 * @param id The interned id of the tickable from {@link TickableIds#intern(ResourceLocation)}.
+	 * @return If the tickable was removed.
+	 */
+	default boolean removeTemporaryTickable(int id) {
+		return this.removeTemporaryTickable(TickableIds.getLocation(id));
+	}
+	
 	/**
 	 * Defers deserialized callbacks that restart on reload or
 	 * new callbacks until the player logs in.
@@ -0,0 +1,145 @@
+/*
+ * Paranoia
+ * Copyright (C) 2020 ChampionAsh5357
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as 
+ * published by the Free Software Foundation version 3.0 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.championash5357.paranoia.api.sanity;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.SectionPos;
+import net.minecraft.world.World;
+
+/**
+ * Caches the light level sampled at a player's position.
+ * A sample is keyed by the block position, the light state
+ * of the section it is in, the sky darkness and whether it
+ * is thundering. The lighting engine is only queried again
+ * once one of these has changed.
+ */
+public class LightSampler {
+
+	private static final int STRIPES = 4096;
+	/**
+	 * Light state of all sections hashed onto a fixed number
+	 * of stripes. Two sections sharing a stripe only causes
+	 * an unnecessary resample.
+	 */
+	private static final AtomicIntegerArray SECTION_STATES = new AtomicIntegerArray(STRIPES);
+	private static int sampleInterval;
+	@Nullable
+	private World world;
+	private long pos, sampledTick;
+	private int sectionState, skylight, light = -1;
+	private boolean thundering;
+
+	/**
+	 * For internal use only. Invalidates all samples taken
+	 * within the section. Called whenever the lighting engine
+	 * has finished updating the section and is safe to call
+	 * from any thread.
+	 * 
+	 * @param pos The section position.
+	 */
+	public static void markChanged(SectionPos pos) {
+		SECTION_STATES.incrementAndGet(getStripe(pos.asLong()));
+	}
+
+	/**
+	 * For internal use only. Sets the minimum number of ticks
+	 * between two samples taken by the same sampler. A value
+	 * of zero or one samples as soon as the key has changed.
+	 * 
+	 * @param interval The sampling interval in ticks.
+	 */
+	public static void setSampleInterval(int interval) {
+		sampleInterval = interval;
+	}
+
+	private static int getStripe(long sectionPos) {
+		long hash = sectionPos * 0x9E3779B97F4A7C15L;
+		return (int) (hash >>> 52) & (STRIPES - 1);
+	}
+
+	private static int getSectionState(BlockPos pos) {
+		return SECTION_STATES.get(getStripe(SectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4)));
+	}
+
+	/**
+	 * Gets the light level at the position, querying the
+	 * lighting engine only if the cached sample is stale.
+	 * 
+	 * @param world The world the position is in.
+	 * @param pos The block position.
+	 * @param tick The current server tick.
+	 * @return The light level used for sanity calculations.
+	 */
+	public int getLight(World world, BlockPos pos, long tick) {
+		if(this.isStale(world, pos, tick)) {
+			this.world = world;
+			this.pos = pos.toLong();
+			this.sectionState = getSectionState(pos);
+			this.skylight = world.getSkylightSubtracted();
+			this.thundering = world.isThundering();
+			this.sampledTick = tick;
+			this.light = queryLight(world, pos);
+		}
+		return this.light;
+	}
+
+	/**
+	 * Gets the light level at the position without
+	 * updating the cached sample.
+	 * 
+	 * @param world The world the position is in.
+	 * @param pos The block position.
+	 * @param tick The current server tick.
+	 * @return The light level used for sanity calculations.
+	 */
+	public int peekLight(World world, BlockPos pos, long tick) {
+		return this.isStale(world, pos, tick) ? queryLight(world, pos) : this.light;
+	}
+
+	private static int queryLight(World world, BlockPos pos) {
+		return world.isThundering() ? world.getNeighborAwareLightSubtracted(pos, 10) : world.getLight(pos);
+	}
+
+	/**
+	 * Checks whether the cached sample can no longer be used
+	 * for the position.
+	 * 
+	 * @param world The world the position is in.
+	 * @param pos The block position.
+	 * @param tick The current server tick.
+	 * @return If the light level needs to be sampled again.
+	 */
+	public boolean isStale(World world, BlockPos pos, long tick) {
+		if(this.light == -1 || world != this.world) return true;
+		if(sampleInterval > 1 && tick - this.sampledTick < sampleInterval) return false;
+		return pos.toLong() != this.pos || world.getSkylightSubtracted() != this.skylight || world.isThundering() != this.thundering
+				|| getSectionState(pos) != this.sectionState;
+	}
+
+	/**
+	 * Clears the cached sample.
+	 */
+	public void invalidate() {
+		this.world = null;
+		this.light = -1;
+	}
+}
@@ -1,333 +1,821 @@
-/*
- * Paranoia
- * Copyright (C) 2020 ChampionAsh5357
- * 
- * This program is free software: you can redistribute it and/or modify
- * it under the terms of the GNU Lesser General Public License as 
- * published by the Free Software Foundation version 3.0 of the License.
- * 
- * This program is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU Lesser General Public License for more details.
- * 
- * You should have received a copy of the GNU Lesser General Public License
- * along with this program.  If not, see <https://www.gnu.org/licenses/>.
- */
-
-package io.github.championash5357.paranoia.api.sanity;
-
-import java.util.*;
-import java.util.function.Function;
-
-import javax.annotation.Nullable;
-
-import io.github.championash5357.paranoia.api.callback.ICallback.Phase;
-import io.github.championash5357.paranoia.api.callback.SanityCallback;
-import io.github.championash5357.paranoia.api.callback.SanityCallbacks;
-import io.github.championash5357.paranoia.api.util.*;
-import net.minecraft.entity.player.PlayerEntity;
-import net.minecraft.entity.player.ServerPlayerEntity;
-import net.minecraft.nbt.*;
-import net.minecraft.util.ResourceLocation;
-import net.minecraft.util.math.MathHelper;
-import net.minecraftforge.common.util.Constants;
-
-/**
- * A basic implementation of {@link ISanity}.
- * Used for the sanity capability on players.
- */
-public class PlayerSanity implements ISanity {
-
-	@Nullable
-	private final PlayerEntity player;
-	private boolean firstInteraction;
-	private int minSanity, maxSanity; // Should be effectively final
-	private int prevSanity, sanity, tempMinSanity, tempMaxSanity;
-	private int time, recoveryTime, attackTime; // Only used to keep track of tick information
-	private int threshold, recoveryThreshold, attackThreshold; // Thresholds on when to execute tick
-	private final Map<Integer, Set<ResourceLocation>> unloadedCallbacks = new HashMap<>();
-	private final Map<Integer, Set<SanityCallback>> loadedCallbacks = new HashMap<>();
-	private final List<IDeferredCallback> deferredCallbacks = new ArrayList<>();
-	private final Map<String, ITickable> temporaryTickables = new HashMap<>();
-
-	public PlayerSanity() {
-		this(null);
-	}
-
-	public PlayerSanity(@Nullable PlayerEntity player) {
-		this(player, 0, 100, 100, 10, 100);
-	}
-
-	public PlayerSanity(@Nullable PlayerEntity player, int minSanity, int maxSanity) {
-		this(player, minSanity, maxSanity, maxSanity, minSanity + 10, maxSanity);
-	}
-
-	public PlayerSanity(@Nullable PlayerEntity player, int minSanity, int maxSanity, int sanity) {
-		this(player, minSanity, maxSanity, sanity, minSanity + 10, maxSanity);
-	}
-
-	public PlayerSanity(@Nullable PlayerEntity player, int minSanity, int maxSanity, int sanity, int tempMinSanity, int tempMaxSanity) {
-		this.player = player;
-		this.minSanity = minSanity;
-		this.maxSanity = maxSanity;
-		this.tempMinSanity = tempMinSanity;
-		this.tempMaxSanity = tempMaxSanity;
-		this.sanity = sanity;
-		this.prevSanity = sanity;
-	}
-
-	@Override
-	public int getSanity() {
-		return this.sanity;
-	}
-
-	@Override
-	public int getMaxSanity() {
-		return this.tempMaxSanity;
-	}
-	
-	@Override
-	public void addTemporaryTickable(ResourceLocation location, ITickable tickable) {
-		this.temporaryTickables.put(location.toString(), tickable);
-	}
-
-	@Override
-	public boolean removeTemporaryTickable(ResourceLocation location) {
-		return this.temporaryTickables.remove(location.toString()) != null;
-	}
-
-	@Override
-	public void setSanity(int sanity, boolean overrideChecks) {
-		if(!overrideChecks) if(player == null || player.world.isRemote || !((ServerPlayerEntity) player).interactionManager.survivalOrAdventure()) return;
-		this.prevSanity = this.sanity;
-		this.sanity = MathHelper.clamp(sanity, this.minSanity, this.tempMaxSanity);
-		this.updateSanityInformation(this.prevSanity, this.sanity);
-	}
-
-	@Override
-	public void changeSanity(int amount, boolean overrideChecks) {
-		this.setSanity(this.sanity + amount, overrideChecks);
-	}
-
-	@Override
-	public void setMaxSanity(int maxSanity, boolean overrideChecks) {
-		if(!overrideChecks) if(player == null || player.world.isRemote || !((ServerPlayerEntity) player).interactionManager.survivalOrAdventure()) return;
-		this.tempMaxSanity = MathHelper.clamp(maxSanity, this.tempMinSanity, this.maxSanity);
-		this.setSanity(this.sanity, overrideChecks);
-	}
-
-	@Override
-	public void changeMaxSanity(int amount, boolean overrideChecks) {
-		this.setMaxSanity(this.tempMaxSanity + amount, overrideChecks);
-	}
-
-	@Override
-	public void setMinSanity(int minSanity, boolean overrideChecks) {
-		if(!overrideChecks) if(player == null || player.world.isRemote || !((ServerPlayerEntity) player).interactionManager.survivalOrAdventure()) return;
-		this.tempMinSanity = MathHelper.clamp(minSanity, this.minSanity, this.tempMaxSanity);
-		this.setSanity(this.sanity, overrideChecks);
-	}
-
-	@Override
-	public void changeMinSanity(int amount, boolean overrideChecks) {
-		this.setMinSanity(this.minSanity + amount, overrideChecks);
-	}
-
-	@Override
-	public void tick() {
-		if(this.player.world.isRemote) return;
-		ServerPlayerEntity player = (ServerPlayerEntity) this.player;
-		double multiplier = SanityCallbacks.handleMultipliers(player, this).apply(false);
-		int lightLevel = player.world.isThundering() ? player.world.getNeighborAwareLightSubtracted(player.getPosition(), 10) : player.world.getLight(player.getPosition());
-		if(this.maxSanity != this.tempMaxSanity) {
-			int recoveryThreshold = SanityCallbacks.getSanityManager().getMaxSanityRecoveryTime(lightLevel);
-			this.recoveryThreshold = (int) (recoveryThreshold != -1 ? Math.max(this.recoveryThreshold, recoveryThreshold * multiplier) : -1);
-		}
-		int threshold = SanityCallbacks.getSanityManager().getSanityLevelTime(lightLevel, 20 - (int) MathHelper.clamp(player.getHealth(), 1, 20)); //TODO: Make more expansive later
-		threshold *= threshold < 0 ? SanityCallbacks.handleMultipliers(player, this).apply(true) : multiplier;
-		this.threshold = threshold > 0 ? Math.max(this.threshold, threshold) : -1 * Math.min(this.threshold == -1 ? Integer.MAX_VALUE : Math.abs(this.threshold), Math.abs(threshold));
-
-		if(!this.temporaryTickables.isEmpty()) this.temporaryTickables.values().forEach(tickable -> tickable.tick(player, this));
-		if(this.attackThreshold != -1) this.attackTime++;
-		if(this.recoveryThreshold != -1 && this.maxSanity != this.tempMaxSanity) this.recoveryTime++;
-		else this.recoveryTime = 0;
-		this.time++;
-
-		if(this.recoveryThreshold != -1 && this.recoveryTime >= this.recoveryThreshold) {
-			this.changeMaxSanity(1);
-			this.recoveryTime = 0;
-			this.recoveryThreshold = -1;
-		}
-		if(this.time >= Math.abs(this.threshold)) {
-			this.changeSanity(this.threshold > 0 ? 1 : -1);
-			this.time = 0;
-			this.threshold = -1;
-		}
-		if(this.attackThreshold != -1 && this.attackTime >= this.attackThreshold) {
-			player.attackEntityFrom(DamageSources.PARANOIA, 1.0f);
-			this.attackTime = 0;
-			this.attackThreshold = - 1;
-			setAttackThreshold();
-		}
-	}
-	
-	private void setAttackThreshold() {
-		int attackThreshold = SanityCallbacks.getSanityManager().getAttackTime(this.sanity);
-		this.attackThreshold = attackThreshold != -1 ? Math.min(this.attackThreshold == -1 ? Integer.MAX_VALUE : this.attackThreshold, SanityCallbacks.getSanityManager().getAttackTime(this.sanity)) : -1;
-		if(this.attackThreshold == -1) this.attackTime = 0;
-	}
-
-	private void updateSanityInformation(int originalSanity, int newSanity) {
-		if(!this.firstInteraction) this.setupInitialMaps();
-		if(originalSanity == newSanity) return;
-		if(originalSanity > newSanity) {
-			this.loadedCallbacks.entrySet().stream().flatMap(entry -> entry.getValue().stream()).forEach(callback -> callback.getHandler().call((ServerPlayerEntity) this.player, this, newSanity, originalSanity, Phase.UPDATE));
-			for(int i = originalSanity - 1; i >= newSanity; --i) {
-				@Nullable Set<ResourceLocation> unloaded = this.unloadedCallbacks.get(i);
-				if(unloaded != null) {
-					unloaded.forEach(location -> {
-						SanityCallback callback = SanityCallbacks.createCallback(location);
-						callback.getHandler().call((ServerPlayerEntity) this.player, this, newSanity, originalSanity, Phase.START);
-						this.loadedCallbacks.computeIfAbsent(callback.getStopSanity(), a -> new HashSet<>()).add(callback);
-					});
-					this.unloadedCallbacks.remove(i);
-				}
-			}
-		} else {
-			for(int i = originalSanity + 1; i <= newSanity; ++i) {
-				@Nullable Set<SanityCallback> loaded = this.loadedCallbacks.get(i);
-				if(loaded != null) {
-					loaded.forEach(callback -> {
-						callback.getHandler().call((ServerPlayerEntity) this.player, this, newSanity, originalSanity, Phase.STOP);
-						this.unloadedCallbacks.computeIfAbsent(callback.getStartSanity(), a -> new HashSet<>()).add(callback.getId());
-					});
-					this.loadedCallbacks.remove(i);
-				}
-			}
-			this.loadedCallbacks.entrySet().stream().flatMap(entry -> entry.getValue().stream()).forEach(callback -> callback.getHandler().call((ServerPlayerEntity) this.player, this, newSanity, originalSanity, Phase.UPDATE));
-		}
-		setAttackThreshold();
-	}
-
-	private void setupInitialMaps() {
-		if(this.player == null || this.player.world.isRemote) return;
-		this.unloadedCallbacks.clear();
-		this.loadedCallbacks.clear();
-		Map<ResourceLocation, Function<ResourceLocation, SanityCallback>> registryMap = SanityCallbacks.getValidationMap();
-		registryMap.forEach((id, callbackSupplier) -> {
-			SanityCallback callback = callbackSupplier.apply(id);
-			if(this.sanity <= callback.getStartSanity()) {
-				this.loadedCallbacks.computeIfAbsent(callback.getStopSanity(), a -> new HashSet<>()).add(callback);
-			} else {
-				this.unloadedCallbacks.computeIfAbsent(callback.getStartSanity(), a -> new HashSet<>()).add(callback.getId());
-			}
-		});
-		this.firstInteraction = true;
-	}
-
-	@Override
-	public void executeLoginCallbacks(ServerPlayerEntity player) {
-		this.deferredCallbacks.forEach(callback -> callback.run(player, this, this.sanity, this.prevSanity));
-		this.deferredCallbacks.clear();
-	}
-
-	@Override
-	public CompoundNBT serializeNBT() {
-		CompoundNBT nbt = new CompoundNBT();
-		nbt.putInt("minSanity", this.minSanity);
-		nbt.putInt("maxSanity", this.maxSanity);
-		nbt.putInt("sanity", this.sanity);
-		nbt.putInt("prevSanity", this.prevSanity);
-		nbt.putInt("tempMinSanity", this.tempMinSanity);
-		nbt.putInt("tempMaxSanity", this.tempMaxSanity);
-		nbt.putBoolean("firstInteraction", this.firstInteraction);
-		nbt.putInt("time", this.time);
-		nbt.putInt("recoveryTime", this.recoveryTime);
-		nbt.putInt("attackTime", this.attackTime);
-		nbt.putInt("threshold", this.threshold);
-		nbt.putInt("recoveryThreshold", this.recoveryThreshold);
-		nbt.putInt("attackThreshold", this.attackThreshold);
-		CompoundNBT unloadedCallbacks = new CompoundNBT();
-		this.unloadedCallbacks.forEach((startSanity, list) -> {
-			ListNBT locations = new ListNBT();
-			list.forEach(location -> locations.add(StringNBT.valueOf(location.toString())));
-			unloadedCallbacks.put(String.valueOf(startSanity), locations);
-		});
-		nbt.put("unloadedCallbacks", unloadedCallbacks);
-		CompoundNBT loadedCallbacks = new CompoundNBT();
-		this.loadedCallbacks.forEach((stopSanity, list) -> {
-			ListNBT locations = new ListNBT();
-			list.forEach(callback -> {
-				CompoundNBT callbackData = new CompoundNBT();
-				callbackData.putString("id", callback.getId().toString());
-				if(callback.getHandler().hasData()) callbackData.put("data", callback.getHandler().serializeNBT());
-				locations.add(callbackData);
-			});
-			loadedCallbacks.put(String.valueOf(stopSanity), locations);
-		});
-		nbt.put("loadedCallbacks", loadedCallbacks);
-		return nbt;
-	}
-
-	@Override
-	public void deserializeNBT(CompoundNBT nbt) {
-		this.minSanity = nbt.getInt("minSanity");
-		this.maxSanity = nbt.getInt("maxSanity");
-		this.sanity = nbt.getInt("sanity");
-		this.prevSanity = nbt.getInt("prevSanity");
-		this.tempMinSanity = nbt.getInt("tempMinSanity");
-		this.tempMaxSanity = nbt.getInt("tempMaxSanity");
-		this.firstInteraction = nbt.getBoolean("firstInteraction");
-		this.time = nbt.getInt("time");
-		this.recoveryTime = nbt.getInt("recoveryTime");
-		this.attackTime = nbt.getInt("attackTime");
-		this.threshold = nbt.getInt("threshold");
-		this.recoveryThreshold = nbt.getInt("recoveryThreshold");
-		this.attackThreshold = nbt.getInt("attackThreshold");
-		this.unloadedCallbacks.clear();
-		this.loadedCallbacks.clear();
-		Map<ResourceLocation, Function<ResourceLocation, SanityCallback>> registryMap = SanityCallbacks.getValidationMap();
-		CompoundNBT unloadedCallbacks = nbt.getCompound("unloadedCallbacks");
-		unloadedCallbacks.keySet().forEach(startSanity -> {
-			Set<ResourceLocation> locations = new HashSet<>();
-			ListNBT list = unloadedCallbacks.getList(startSanity, Constants.NBT.TAG_STRING);
-			list.forEach(inbt -> {
-				if (inbt instanceof StringNBT) {
-					ResourceLocation location = new ResourceLocation(((StringNBT) inbt).getString());
-					locations.add(location);
-					registryMap.remove(location);
-				} else {
-					throw new RuntimeException("The specified INBT is not formatted as a StringNBT.");
-				}
-			});
-			this.unloadedCallbacks.put(Integer.valueOf(startSanity), locations);
-		});
-		CompoundNBT loadedCallbacks = nbt.getCompound("loadedCallbacks");
-		loadedCallbacks.keySet().forEach(stopSanity -> {
-			Set<SanityCallback> callbacks = new HashSet<>();
-			ListNBT list = loadedCallbacks.getList(stopSanity, Constants.NBT.TAG_COMPOUND);
-			list.forEach(inbt -> {
-				if (inbt instanceof CompoundNBT) {
-					SanityCallback callback = SanityCallbacks.createCallback(new ResourceLocation(((CompoundNBT) inbt).getString("id")));
-					if(((CompoundNBT) inbt).contains("data")) callback.getHandler().deserializeNBT(((CompoundNBT) inbt).getCompound("data"));
-					if (callback.getHandler().restartOnReload()) deferredCallbacks.add((player, inst, sanity, prevSanity) -> callback.getHandler().call(player, inst, sanity, prevSanity, Phase.START));
-					callbacks.add(callback);
-					registryMap.remove(callback.getId());
-				} else {
-					throw new RuntimeException("The specified INBT is not formatted as a StringNBT or CompoundNBT.");
-				}
-			});
-			this.loadedCallbacks.put(Integer.valueOf(stopSanity), callbacks);
-		});
-		registryMap.forEach((id, callbackSupplier) -> {
-			SanityCallback callback = callbackSupplier.apply(id);
-			if(this.sanity <= callback.getStartSanity()) {
-				deferredCallbacks.add((player, inst, sanity, prevSanity) -> callback.getHandler().call(player, inst, sanity, prevSanity, Phase.START));
-				this.loadedCallbacks.computeIfAbsent(callback.getStopSanity(), a -> new HashSet<>()).add(callback);
-			} else {
-				this.unloadedCallbacks.computeIfAbsent(callback.getStartSanity(), a -> new HashSet<>()).add(callback.getId());
-			}
-		});
-	}
-}
+/*
+ * Paranoia
+ * Copyright (C) 2020 ChampionAsh5357
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as 
+ * published by the Free Software Foundation version 3.0 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.championash5357.paranoia.api.sanity;
+
+import java.util.*;
+import java.util.function.BiPredicate;
+
+import javax.annotation.Nullable;
+
+import io.github.championash5357.paranoia.api.callback.CallbackIndex;
+import io.github.championash5357.paranoia.api.callback.CompiledMultipliers;
+import io.github.championash5357.paranoia.api.callback.ICallback.Phase;
+import io.github.championash5357.paranoia.api.callback.SanityCallback;
+import io.github.championash5357.paranoia.api.callback.SanityCallbacks;
+import io.github.championash5357.paranoia.api.util.*;
+import io.github.championash5357.paranoia.api.util.Timer;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.nbt.*;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.Util;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+import net.minecraft.world.biome.Biome;
+import net.minecraftforge.common.util.Constants;
+
+/**
+ * A basic implementation of {@link ISanity}.
+ * Used for the sanity capability on players.
+ */
+public class PlayerSanity implements ISanity {
+
+	private static final int[] EMPTY_IDS = new int[0];
+	private static final ITickable[] EMPTY_TICKABLES = new ITickable[0];
+	@Nullable
+	private final PlayerEntity player;
+	private boolean firstInteraction;
+	private int minSanity, maxSanity; // Should be effectively final
+	private int prevSanity, sanity, tempMinSanity, tempMaxSanity;
+	private int time, recoveryTime, attackTime; // Only used to keep track of tick information
+	private int threshold, recoveryThreshold, attackThreshold; // Thresholds on when to execute tick
+	@Nullable
+	private SanityCallback[] callbacks; // Indexed by ordinal, null if the callback is unloaded
+	@Nullable
+	private long[] loaded; // Bitset of the loaded ordinals
+	private final List<IDeferredCallback> deferredCallbacks = new ArrayList<>();
+	private int[] tickableIds = EMPTY_IDS, tickableSlots = EMPTY_IDS; // Slots are indexed by interned id and offset by one
+	private ITickable[] tickables = EMPTY_TICKABLES;
+	private int tickableCount;
+	private final TimingWheel.Entry<PlayerSanity> wakeup = new TimingWheel.Entry<>(this);
+	private long lastTick = -1; // Last server tick accounted for within the tick information
+	private long dueTick; // Tick the instance wanted to be woken on before aligning to the stride
+	private int lateTicks; // Ticks the current wakeup is late by, carried over once a threshold is reached
+	private boolean waking;
+	private boolean pendingUpdate; // If the callbacks have not been informed of a coalesced change yet
+	private Dormancy dormancy = Dormancy.NONE;
+	private int sampledThreshold, sampledRecoveryThreshold; // Cached inputs from the last wakeup
+	private double sampledMultiplier;
+	private final LightSampler lightSampler = new LightSampler();
+	@Nullable
+	private World inputWorld;
+	@Nullable
+	private CompiledMultipliers.WorldMultipliers worldMultipliers;
+	private int inputHearts, inputMultipliers, inputDataVersion;
+	@Nullable
+	private Biome inputBiome;
+	private int inputDimension = -1, inputBiomeId = -1; // Interned scope ids
+	@Nullable
+	private SanityData.Rates rates; // Rates of the dimension and biome at the last sample
+	private long lastSeenTick = -1; // Game time the instance was last saved at, used to catch up on time spent offline
+
+	public PlayerSanity() {
+		this(null);
+	}
+
+	public PlayerSanity(@Nullable PlayerEntity player) {
+		this(player, 0, 100, 100, 10, 100);
+	}
+
+	public PlayerSanity(@Nullable PlayerEntity player, int minSanity, int maxSanity) {
+		this(player, minSanity, maxSanity, maxSanity, minSanity + 10, maxSanity);
+	}
+
+	public PlayerSanity(@Nullable PlayerEntity player, int minSanity, int maxSanity, int sanity) {
+		this(player, minSanity, maxSanity, sanity, minSanity + 10, maxSanity);
+	}
+
+	public PlayerSanity(@Nullable PlayerEntity player, int minSanity, int maxSanity, int sanity, int tempMinSanity, int tempMaxSanity) {
+		this.player = player;
+		this.minSanity = minSanity;
+		this.maxSanity = maxSanity;
+		this.tempMinSanity = tempMinSanity;
+		this.tempMaxSanity = tempMaxSanity;
+		this.sanity = sanity;
+		this.prevSanity = sanity;
+	}
+
+	@Override
+	public int getSanity() {
+		return this.sanity;
+	}
+
+	@Override
+	public int getMaxSanity() {
+		return this.tempMaxSanity;
+	}
+	
+	@Override
+	public void addTemporaryTickable(ResourceLocation location, ITickable tickable) {
+		this.addTemporaryTickable(TickableIds.intern(location), tickable);
+	}
+
+	@Override
+	public boolean removeTemporaryTickable(ResourceLocation location) {
+		return this.removeTemporaryTickable(TickableIds.intern(location));
+	}
+
+	@Override
+	public void addTemporaryTickable(int id, ITickable tickable) {
+		if(id < this.tickableSlots.length && this.tickableSlots[id] != 0) {
+			int slot = this.tickableSlots[id] - 1;
+			ITickable current = this.tickables[slot];
+			if(current instanceof ScheduledTimer && ((ScheduledTimer) current).timer == tickable) return;
+			releaseTickable(current);
+			this.tickables[slot] = this.prepareTickable(tickable);
+			if(!(this.tickables[slot] instanceof ScheduledTimer)) this.leaveDormancy();
+			return;
+		}
+		tickable = this.prepareTickable(tickable);
+		if(!(tickable instanceof ScheduledTimer)) this.leaveDormancy();
+		if(id >= this.tickableSlots.length) this.tickableSlots = Arrays.copyOf(this.tickableSlots, Math.max(id + 1, this.tickableSlots.length * 2));
+		if(this.tickableCount == this.tickables.length) {
+			int capacity = Math.max(4, this.tickableCount * 2);
+			this.tickableIds = Arrays.copyOf(this.tickableIds, capacity);
+			this.tickables = Arrays.copyOf(this.tickables, capacity);
+		}
+		this.tickableIds[this.tickableCount] = id;
+		this.tickables[this.tickableCount] = tickable;
+		this.tickableSlots[id] = ++this.tickableCount;
+	}
+
+	@Override
+	public boolean removeTemporaryTickable(int id) {
+		if(id >= this.tickableSlots.length || this.tickableSlots[id] == 0) return false;
+		int slot = this.tickableSlots[id] - 1, last = --this.tickableCount;
+		this.tickableSlots[id] = 0;
+		releaseTickable(this.tickables[slot]);
+		if(slot != last) {
+			this.tickableIds[slot] = this.tickableIds[last];
+			this.tickables[slot] = this.tickables[last];
+			this.tickableSlots[this.tickableIds[slot]] = slot + 1;
+		}
+		this.tickables[last] = null;
+		return true;
+	}
+
+	/**
+	 * Replaces a {@link Timer} with a per player copy of its state
+	 * which is scheduled rather than ticked.
+	 */
+	private ITickable prepareTickable(ITickable tickable) {
+		if(!(tickable instanceof Timer) || this.player == null || this.player.world.isRemote) return tickable;
+		ScheduledTimer timer = new ScheduledTimer(this, (Timer) tickable);
+		SanityScheduler.scheduleTimer(timer.entry, Stagger.align(SanityScheduler.getCurrentTick() + timer.timer.getNextThreshold(this) + 1, this.player));
+		return timer;
+	}
+
+	private static void releaseTickable(ITickable tickable) {
+		if(tickable instanceof ScheduledTimer) {
+			((ScheduledTimer) tickable).released = true;
+			SanityScheduler.cancelTimer(((ScheduledTimer) tickable).entry);
+		}
+	}
+
+	/**
+	 * Called by the {@link SanityScheduler} once the timer is due.
+	 * Schedules the next run before executing the current one.
+	 * Executing may change the sanity and so add or remove the
+	 * tickables of this or any other player, including timers
+	 * due on the same tick; removed timers are never run.
+	 * 
+	 * @param timer The timer which is due.
+	 * @param currentTick The current server tick.
+	 */
+	void runTimer(ScheduledTimer timer, long currentTick) {
+		if(timer.released || this.player.removed) return;
+		SanityScheduler.scheduleTimer(timer.entry, Stagger.align(currentTick + timer.timer.getNextThreshold(this) + 1, this.player));
+		if(this.player.isAlive()) timer.timer.execute((ServerPlayerEntity) this.player);
+	}
+
+	@Override
+	public void setSanity(int sanity, boolean overrideChecks) {
+		if(!overrideChecks) if(player == null || player.world.isRemote || !((ServerPlayerEntity) player).interactionManager.survivalOrAdventure()) return;
+		this.sync();
+		if(!this.pendingUpdate) this.prevSanity = this.sanity;
+		this.sanity = MathHelper.clamp(sanity, this.minSanity, this.tempMaxSanity);
+		if(SanityScheduler.isCoalesced()) {
+			if(!this.pendingUpdate) {
+				this.pendingUpdate = true;
+				SanityScheduler.defer(this);
+			}
+		} else {
+			this.pendingUpdate = false;
+			this.updateSanityInformation(this.prevSanity, this.sanity);
+		}
+		this.leaveDormancy();
+		this.requestWakeup();
+	}
+
+	/**
+	 * Informs the callbacks of all changes made since the start
+	 * of the tick in a single update. Called by the {@link SanityScheduler}
+	 * at the end of the tick when changes are coalesced.
+	 */
+	void flushSanityInformation() {
+		if(!this.pendingUpdate) return;
+		this.pendingUpdate = false;
+		this.updateSanityInformation(this.prevSanity, this.sanity);
+	}
+
+	@Override
+	public void changeSanity(int amount, boolean overrideChecks) {
+		this.setSanity(this.sanity + amount, overrideChecks);
+	}
+
+	@Override
+	public void setMaxSanity(int maxSanity, boolean overrideChecks) {
+		if(!overrideChecks) if(player == null || player.world.isRemote || !((ServerPlayerEntity) player).interactionManager.survivalOrAdventure()) return;
+		this.sync();
+		this.tempMaxSanity = MathHelper.clamp(maxSanity, this.tempMinSanity, this.maxSanity);
+		this.setSanity(this.sanity, overrideChecks);
+	}
+
+	@Override
+	public void changeMaxSanity(int amount, boolean overrideChecks) {
+		this.setMaxSanity(this.tempMaxSanity + amount, overrideChecks);
+	}
+
+	@Override
+	public void setMinSanity(int minSanity, boolean overrideChecks) {
+		if(!overrideChecks) if(player == null || player.world.isRemote || !((ServerPlayerEntity) player).interactionManager.survivalOrAdventure()) return;
+		this.sync();
+		this.tempMinSanity = MathHelper.clamp(minSanity, this.minSanity, this.tempMaxSanity);
+		this.setSanity(this.sanity, overrideChecks);
+	}
+
+	@Override
+	public void changeMinSanity(int amount, boolean overrideChecks) {
+		this.setMinSanity(this.minSanity + amount, overrideChecks);
+	}
+
+	/**
+	 * Only handles the temporary tickables and checks whether any
+	 * of the inputs have changed since the last wakeup. The tick
+	 * information itself is advanced by {@link SanityScheduler}
+	 * whenever a threshold is due or an input has changed.
+	 */
+	@Override
+	public void tick() {
+		if(this.player.world.isRemote) return;
+		ServerPlayerEntity player = (ServerPlayerEntity) this.player;
+		if(this.dormancy != Dormancy.NONE) {
+			if(this.dormancy.test(this, player)) return;
+			this.leaveDormancy();
+		}
+		long currentTick = SanityScheduler.getCurrentTick();
+		for(int i = this.tickableCount - 1; i >= 0; --i) {
+			if(i >= this.tickableCount) continue;
+			ITickable tickable = this.tickables[i];
+			if(!(tickable instanceof IStaggeredTickable)) tickable.tick(player, this);
+			else if(Stagger.isTurn(currentTick, player)) ((IStaggeredTickable) tickable).tick(player, this, Stagger.getWindow());
+		}
+		if(this.lastTick == -1) this.lastTick = currentTick - 1;
+		if(!SanityScheduler.isOnWindow(player.getEntityId())) return;
+		Dormancy dormancy = this.getDormancy(player);
+		if(dormancy != Dormancy.NONE) this.enterDormancy(dormancy);
+		else if(!this.wakeup.isScheduled() || this.haveInputsChanged(player)) this.requestWakeup();
+	}
+
+	/**
+	 * Returns whether the instance is dormant. A dormant instance
+	 * does not sample its inputs or advance its tick information
+	 * until the reason it became dormant no longer holds.
+	 * 
+	 * @return If the instance is dormant.
+	 */
+	public boolean isDormant() {
+		return this.dormancy != Dormancy.NONE;
+	}
+
+	private Dormancy getDormancy(ServerPlayerEntity player) {
+		if(this.lastTick == -1 || this.pendingUpdate || this.hasTickingTickables()) return Dormancy.NONE;
+		for(Dormancy dormancy : Dormancy.VALUES)
+			if(dormancy.test(this, player)) return dormancy;
+		return Dormancy.NONE;
+	}
+
+	private boolean hasTickingTickables() {
+		for(int i = 0; i < this.tickableCount; ++i)
+			if(!(this.tickables[i] instanceof ScheduledTimer)) return true;
+		return false;
+	}
+
+	/**
+	 * Checks whether the sanity instance cannot change given
+	 * the current inputs. Sanity can only rise in this state
+	 * and it is already at its maximum.
+	 */
+	private boolean isSteady(ServerPlayerEntity player) {
+		return this.inputWorld != null && this.sanity == this.maxSanity && this.tempMaxSanity == this.maxSanity && this.sampledThreshold > 0 && this.attackThreshold == -1
+				&& player.interactionManager.survivalOrAdventure() && !SanityCallbacks.getMultipliers().hasPlayerMultipliers() && !this.haveInputsChanged(player);
+	}
+
+	private void enterDormancy(Dormancy dormancy) {
+		this.sync();
+		SanityScheduler.cancel(this.wakeup);
+		this.dormancy = dormancy;
+	}
+
+	private void leaveDormancy() {
+		if(this.dormancy == Dormancy.NONE) return;
+		this.sync();
+		this.dormancy = Dormancy.NONE;
+		this.requestWakeup();
+	}
+
+	/**
+	 * Called by the {@link SanityScheduler} at the end of the tick
+	 * the instance was scheduled for. Catches up on all ticks which
+	 * have passed since the last wakeup and samples the inputs for
+	 * the current tick. The current tick itself is handled by a
+	 * {@link SanityBatch}.
+	 * 
+	 * @param currentTick The current server tick.
+	 * @return If the instance should be handled on this tick.
+	 */
+	boolean prepareWakeup(long currentTick) {
+		if(this.player.removed || !this.player.isAlive()) return false;
+		this.waking = true;
+		this.lateTicks = (int) MathHelper.clamp(currentTick - this.dueTick, 0, Integer.MAX_VALUE);
+		this.sync(currentTick - 1);
+		this.sampleInputs((ServerPlayerEntity) this.player, currentTick);
+		return true;
+	}
+
+	void store(SanityBatch batch, int index) {
+		batch.time[index] = this.time;
+		batch.recoveryTime[index] = this.recoveryTime;
+		batch.attackTime[index] = this.attackTime;
+		batch.threshold[index] = this.threshold;
+		batch.recoveryThreshold[index] = this.recoveryThreshold;
+		batch.attackThreshold[index] = this.attackThreshold;
+		batch.sampledThreshold[index] = this.sampledThreshold;
+		batch.sampledRecoveryThreshold[index] = this.sampledRecoveryThreshold;
+		batch.sampledMultiplier[index] = this.sampledMultiplier;
+		batch.recovering[index] = this.maxSanity != this.tempMaxSanity;
+		batch.carry[index] = this.lateTicks;
+	}
+
+	void load(SanityBatch batch, int index) {
+		this.time = batch.time[index];
+		this.recoveryTime = batch.recoveryTime[index];
+		this.attackTime = batch.attackTime[index];
+		this.threshold = batch.threshold[index];
+		this.recoveryThreshold = batch.recoveryThreshold[index];
+		this.attackThreshold = batch.attackThreshold[index];
+	}
+
+	/**
+	 * Applies the changes computed for the ticks since the last
+	 * wakeup and then sleeps until the next threshold is due.
+	 * Every attack due within those ticks is dealt as a single
+	 * hit, as repeated hits within one tick would be absorbed.
+	 * 
+	 * @param currentTick The current server tick.
+	 * @param sanityChanges The signed number of sanity changes computed by the {@link SanityBatch}.
+	 * @param recoveries The number of max sanity recoveries computed by the {@link SanityBatch}.
+	 */
+	void finishWakeup(long currentTick, int sanityChanges, int recoveries) {
+		this.lastTick = currentTick;
+		if(recoveries != 0) this.changeMaxSanity(recoveries);
+		if(sanityChanges != 0) this.changeSanity(sanityChanges);
+		int attacks = 0;
+		while(this.attackThreshold != -1 && this.attackTime >= Math.max(1, this.attackThreshold)) {
+			attacks++;
+			this.attackTime -= Math.max(1, this.attackThreshold);
+			this.attackThreshold = - 1;
+			setAttackThreshold();
+		}
+		if(attacks > 0) {
+			float damage = attacks;
+			EffectQueue.submit(EffectQueue.Priority.CRITICAL, () -> this.player.attackEntityFrom(DamageSources.PARANOIA, damage));
+			this.attackTime = Math.min(this.attackTime, this.lateTicks);
+		}
+		this.waking = false;
+		int ticks = this.getTicksUntilDue();
+		if(SanityCallbacks.getMultipliers().hasPlayerMultipliers()) ticks = Math.min(ticks, SanityScheduler.MAX_SLEEP);
+		this.dueTick = currentTick + ticks;
+		SanityScheduler.schedule(this.wakeup, SanityScheduler.alignToStride(this.dueTick, this.player.getEntityId()));
+	}
+
+	private void sampleInputs(ServerPlayerEntity player, long currentTick) {
+		CompiledMultipliers multipliers = SanityCallbacks.getMultipliers();
+		if(this.worldMultipliers == null || player.world != this.inputWorld) this.worldMultipliers = multipliers.getWorld(player.world);
+		this.worldMultipliers.update(player, this, currentTick);
+		if(player.world != this.inputWorld) this.inputDimension = ScopeIds.DIMENSIONS.intern(player.world.getDimensionKey().getLocation());
+		this.inputWorld = player.world;
+		this.inputHearts = getHearts(player);
+		this.inputMultipliers = this.worldMultipliers.getVersion();
+		SanityData data = SanityCallbacks.getSanityManager().getData();
+		this.inputDataVersion = data.getVersion();
+		int lightLevel = this.lightSampler.getLight(player.world, player.getPosition(), currentTick);
+		this.sampledMultiplier = this.worldMultipliers.getPositive() * multipliers.getPlayerMultiplier(player, this, false);
+		this.rates = data.getRates(this.inputDimension, data.hasBiomeRates() ? this.getBiomeId(player) : -1);
+		this.sampledRecoveryThreshold = this.rates.getMaxSanityRecoveryTime(lightLevel);
+		this.sampledThreshold = this.sampleThreshold(player, this.rates, this.worldMultipliers, lightLevel, this.inputHearts, this.sampledMultiplier);
+	}
+
+	private int sampleThreshold(ServerPlayerEntity player, SanityData.Rates rates, CompiledMultipliers.WorldMultipliers worldMultipliers, int lightLevel, int hearts, double multiplier) {
+		int threshold = rates.getSanityLevelTime(lightLevel, hearts); //TODO: Make more expansive later
+		threshold *= threshold < 0 ? worldMultipliers.getNegative() * SanityCallbacks.getMultipliers().getPlayerMultiplier(player, this, true) : multiplier;
+		return threshold;
+	}
+
+	private int getBiomeId(ServerPlayerEntity player) {
+		Biome biome = player.world.getBiome(player.getPosition());
+		if(biome != this.inputBiome) {
+			this.inputBiome = biome;
+			this.inputBiomeId = getBiomeId(biome);
+		}
+		return this.inputBiomeId;
+	}
+
+	private static int getBiomeId(Biome biome) {
+		return biome.getRegistryName() != null ? ScopeIds.BIOMES.intern(biome.getRegistryName()) : -1;
+	}
+
+	private SanityData.Rates getRates() {
+		return this.rates != null ? this.rates : SanityCallbacks.getSanityManager().getData().getRates();
+	}
+
+	/**
+	 * Forecasts the tick information of the instance after the
+	 * specified number of ticks assuming the current inputs stay
+	 * the same. The inputs are sampled into the forecast only,
+	 * so neither the instance nor its wakeup is changed.
+	 * 
+	 * @param ticks The number of ticks to forecast.
+	 * @return The forecast.
+	 */
+	public SanityFastForward simulate(long ticks) {
+		ServerPlayerEntity player = (ServerPlayerEntity) this.player;
+		long currentTick = SanityScheduler.getCurrentTick();
+		CompiledMultipliers multipliers = SanityCallbacks.getMultipliers();
+		CompiledMultipliers.WorldMultipliers worldMultipliers = multipliers.getWorld(player.world);
+		worldMultipliers.update(player, this, currentTick);
+		SanityData data = SanityCallbacks.getSanityManager().getData();
+		int dimension = player.world == this.inputWorld ? this.inputDimension : ScopeIds.DIMENSIONS.intern(player.world.getDimensionKey().getLocation());
+		SanityData.Rates rates = data.getRates(dimension, data.hasBiomeRates() ? getBiomeId(player.world.getBiome(player.getPosition())) : -1);
+		int lightLevel = this.lightSampler.peekLight(player.world, player.getPosition(), currentTick);
+		double multiplier = worldMultipliers.getPositive() * multipliers.getPlayerMultiplier(player, this, false);
+		SanityFastForward forecast = new SanityFastForward(this.minSanity, this.maxSanity, this.tempMinSanity, this.tempMaxSanity, this.sanity,
+				this.sampleThreshold(player, rates, worldMultipliers, lightLevel, getHearts(player), multiplier), rates.getMaxSanityRecoveryTime(lightLevel), multiplier);
+		forecast.time = this.time;
+		forecast.recoveryTime = this.recoveryTime;
+		forecast.attackTime = this.attackTime;
+		forecast.threshold = this.threshold;
+		forecast.recoveryThreshold = this.recoveryThreshold;
+		forecast.attackThreshold = this.attackThreshold;
+		// Accounts for the ticks since the last wakeup the same way as sync
+		if(this.lastTick != -1 && this.inputWorld != null && this.dormancy == Dormancy.NONE && currentTick - 1 > this.lastTick) {
+			int elapsed = (int) Math.min(currentTick - 1 - this.lastTick, Integer.MAX_VALUE);
+			boolean recovering = this.maxSanity != this.tempMaxSanity;
+			if(recovering) forecast.recoveryThreshold = SanityBatch.getRecoveryThreshold(forecast.recoveryThreshold, this.sampledRecoveryThreshold, this.sampledMultiplier);
+			forecast.threshold = SanityBatch.getThreshold(forecast.threshold, this.sampledThreshold);
+			if(forecast.attackThreshold != -1) forecast.attackTime += elapsed;
+			if(forecast.recoveryThreshold != -1 && recovering) forecast.recoveryTime += elapsed;
+			else forecast.recoveryTime = 0;
+			forecast.time += elapsed;
+		}
+		forecast.rates = rates;
+		forecast.run(ticks);
+		return forecast;
+	}
+
+	/**
+	 * Advances the instance by the specified number of ticks at
+	 * once assuming the current inputs stay the same. Callbacks
+	 * are informed of the whole change in a single update and no
+	 * attacks are applied.
+	 * 
+	 * @param ticks The number of ticks to advance by.
+	 * @return The forecast which was applied.
+	 */
+	public SanityFastForward fastForward(long ticks) {
+		if(ticks <= 0) return this.simulate(ticks);
+		this.sync();
+		this.sampleInputs((ServerPlayerEntity) this.player, SanityScheduler.getCurrentTick());
+		SanityFastForward forecast = this.simulate(ticks);
+		this.time = forecast.time;
+		this.recoveryTime = forecast.recoveryTime;
+		this.attackTime = forecast.attackTime;
+		this.threshold = forecast.threshold;
+		this.recoveryThreshold = forecast.recoveryThreshold;
+		this.attackThreshold = forecast.attackThreshold;
+		if(forecast.getMaxSanity() != this.tempMaxSanity) this.setMaxSanity(forecast.getMaxSanity(), true);
+		this.setSanity(forecast.getSanity(), true);
+		return forecast;
+	}
+
+	private boolean haveInputsChanged(ServerPlayerEntity player) {
+		long currentTick = SanityScheduler.getCurrentTick();
+		if(player.world != this.inputWorld || getHearts(player) != this.inputHearts || SanityCallbacks.getSanityManager().getVersion() != this.inputDataVersion) return true;
+		this.worldMultipliers.update(player, this, currentTick);
+		return this.worldMultipliers.getVersion() != this.inputMultipliers || this.lightSampler.isStale(player.world, player.getPosition(), currentTick);
+	}
+
+	private static int getHearts(PlayerEntity player) {
+		return 20 - (int) MathHelper.clamp(player.getHealth(), 1, 20);
+	}
+
+	/**
+	 * Applies the last sampled inputs to the thresholds. Once
+	 * applied, applying the same inputs again has no effect
+	 * until one of the thresholds has been reached.
+	 */
+	private void updateThresholds() {
+		if(this.maxSanity != this.tempMaxSanity) this.recoveryThreshold = SanityBatch.getRecoveryThreshold(this.recoveryThreshold, this.sampledRecoveryThreshold, this.sampledMultiplier);
+		this.threshold = SanityBatch.getThreshold(this.threshold, this.sampledThreshold);
+	}
+
+	private void advanceTime(int ticks) {
+		if(this.attackThreshold != -1) this.attackTime += ticks;
+		if(this.recoveryThreshold != -1 && this.maxSanity != this.tempMaxSanity) this.recoveryTime += ticks;
+		else this.recoveryTime = 0;
+		this.time += ticks;
+	}
+
+	/**
+	 * Gets the number of ticks until the next threshold is
+	 * reached assuming the inputs stay the same.
+	 */
+	private int getTicksUntilDue() {
+		int ticks = Math.max(1, Math.abs(SanityBatch.getThreshold(this.threshold, this.sampledThreshold)) - this.time);
+		int recoveryThreshold = this.maxSanity != this.tempMaxSanity ? SanityBatch.getRecoveryThreshold(this.recoveryThreshold, this.sampledRecoveryThreshold, this.sampledMultiplier) : this.recoveryThreshold;
+		if(recoveryThreshold != -1) {
+			if(this.maxSanity != this.tempMaxSanity) ticks = Math.min(ticks, Math.max(1, recoveryThreshold - this.recoveryTime));
+			else if(recoveryThreshold <= 0) ticks = 1;
+		}
+		if(this.attackThreshold != -1) ticks = Math.min(ticks, Math.max(1, this.attackThreshold - this.attackTime));
+		return ticks;
+	}
+
+	/**
+	 * Accounts for all ticks which have passed without a wakeup
+	 * up to and excluding the current tick. No threshold can be
+	 * reached within these ticks as the instance is always woken
+	 * when one is due.
+	 */
+	private void sync() {
+		this.sync(SanityScheduler.getCurrentTick() - 1);
+	}
+
+	private void sync(long tick) {
+		if(this.lastTick == -1 || tick <= this.lastTick || this.player == null || this.player.world.isRemote) return;
+		if(this.inputWorld != null && this.dormancy == Dormancy.NONE) {
+			this.updateThresholds();
+			this.advanceTime((int) Math.min(tick - this.lastTick, Integer.MAX_VALUE));
+		}
+		this.lastTick = tick;
+	}
+
+	private void requestWakeup() {
+		if(this.waking || this.lastTick == -1) return;
+		long currentTick = SanityScheduler.getCurrentTick(), dueTick = SanityScheduler.alignToWindow(currentTick, this.player.getEntityId());
+		if(this.wakeup.isScheduled() && this.wakeup.getDueTick() <= dueTick) return;
+		this.dueTick = currentTick;
+		SanityScheduler.schedule(this.wakeup, dueTick);
+	}
+
+	private void setAttackThreshold() {
+		int attackThreshold = this.getRates().getAttackTime(this.sanity);
+		this.attackThreshold = attackThreshold != -1 ? Math.min(this.attackThreshold == -1 ? Integer.MAX_VALUE : this.attackThreshold, attackThreshold) : -1;
+		if(this.attackThreshold == -1) this.attackTime = 0;
+	}
+
+	private void updateSanityInformation(int originalSanity, int newSanity) {
+		if(!this.firstInteraction) this.setupInitialCallbacks();
+		if(originalSanity == newSanity) return;
+		if(this.callbacks != null) {
+			CallbackIndex index = SanityCallbacks.getCallbackIndex();
+			ServerPlayerEntity player = (ServerPlayerEntity) this.player;
+			if(originalSanity > newSanity) {
+				this.updateCallbacks(player, newSanity, originalSanity);
+				for(int i = index.findStart(originalSanity) - 1, end = index.findStart(newSanity); i >= end; --i) {
+					int ordinal = index.getByStart(i);
+					if(!this.isLoaded(ordinal)) {
+						SanityCallback callback = index.create(ordinal);
+						callback.getHandler().call(player, this, newSanity, originalSanity, Phase.START);
+						this.load(ordinal, callback);
+					}
+				}
+			} else {
+				for(int i = index.findStop(originalSanity + 1), end = index.findStop(newSanity + 1); i < end; ++i) {
+					int ordinal = index.getByStop(i);
+					if(this.isLoaded(ordinal)) {
+						this.callbacks[ordinal].getHandler().call(player, this, newSanity, originalSanity, Phase.STOP);
+						this.unload(ordinal);
+					}
+				}
+				this.updateCallbacks(player, newSanity, originalSanity);
+			}
+		}
+		setAttackThreshold();
+	}
+
+	private void updateCallbacks(ServerPlayerEntity player, int newSanity, int originalSanity) {
+		for(int word = 0; word < this.loaded.length; ++word) {
+			long bits = this.loaded[word];
+			while(bits != 0) {
+				SanityCallback callback = this.callbacks[word << 6 | Long.numberOfTrailingZeros(bits)];
+				bits &= bits - 1;
+				if(callback != null) callback.getHandler().call(player, this, newSanity, originalSanity, Phase.UPDATE);
+			}
+		}
+	}
+
+	private void resetCallbacks(int size) {
+		this.callbacks = new SanityCallback[size];
+		this.loaded = new long[(size + 63) >>> 6];
+	}
+
+	private boolean isLoaded(int ordinal) {
+		return (this.loaded[ordinal >>> 6] & 1L << ordinal) != 0;
+	}
+
+	private void load(int ordinal, SanityCallback callback) {
+		this.callbacks[ordinal] = callback;
+		this.loaded[ordinal >>> 6] |= 1L << ordinal;
+	}
+
+	private void unload(int ordinal) {
+		this.callbacks[ordinal] = null;
+		this.loaded[ordinal >>> 6] &= ~(1L << ordinal);
+	}
+
+	private void setupInitialCallbacks() {
+		if(this.player == null || this.player.world.isRemote) return;
+		CallbackIndex index = SanityCallbacks.getCallbackIndex();
+		this.resetCallbacks(index.size());
+		for(int ordinal = 0; ordinal < index.size(); ++ordinal)
+			if(this.sanity <= index.getStartSanity(ordinal)) this.load(ordinal, index.create(ordinal));
+		this.firstInteraction = true;
+	}
+
+	@Override
+	public void executeLoginCallbacks(ServerPlayerEntity player) {
+		this.deferredCallbacks.forEach(callback -> callback.run(player, this, this.sanity, this.prevSanity));
+		this.deferredCallbacks.clear();
+		long catchUpTicks = SanityScheduler.getCatchUpTicks();
+		if(catchUpTicks > 0 && this.lastSeenTick != -1 && player.interactionManager.survivalOrAdventure()) {
+			long away = player.world.getGameTime() - this.lastSeenTick;
+			if(away > 0) this.fastForward(Math.min(away, catchUpTicks));
+		}
+		this.lastSeenTick = -1;
+	}
+
+	@Override
+	public CompoundNBT serializeNBT() {
+		this.sync();
+		this.flushSanityInformation();
+		CompoundNBT nbt = new CompoundNBT();
+		nbt.putInt("minSanity", this.minSanity);
+		nbt.putInt("maxSanity", this.maxSanity);
+		nbt.putInt("sanity", this.sanity);
+		nbt.putInt("prevSanity", this.prevSanity);
+		nbt.putInt("tempMinSanity", this.tempMinSanity);
+		nbt.putInt("tempMaxSanity", this.tempMaxSanity);
+		nbt.putBoolean("firstInteraction", this.firstInteraction);
+		nbt.putInt("time", this.time);
+		nbt.putInt("recoveryTime", this.recoveryTime);
+		nbt.putInt("attackTime", this.attackTime);
+		nbt.putInt("threshold", this.threshold);
+		nbt.putInt("recoveryThreshold", this.recoveryThreshold);
+		nbt.putInt("attackThreshold", this.attackThreshold);
+		if(this.player != null && !this.player.world.isRemote) nbt.putLong("lastSeenTick", this.player.world.getGameTime());
+		CompoundNBT unloadedCallbacks = new CompoundNBT();
+		CompoundNBT loadedCallbacks = new CompoundNBT();
+		if(this.callbacks != null) {
+			CallbackIndex index = SanityCallbacks.getCallbackIndex();
+			for(int ordinal = 0; ordinal < this.callbacks.length; ++ordinal) {
+				SanityCallback callback = this.callbacks[ordinal];
+				if(callback == null) getList(unloadedCallbacks, String.valueOf(index.getStartSanity(ordinal))).add(StringNBT.valueOf(index.getId(ordinal).toString()));
+				else {
+					CompoundNBT callbackData = new CompoundNBT();
+					callbackData.putString("id", callback.getId().toString());
+					if(callback.getHandler().hasData()) callbackData.put("data", callback.getHandler().serializeNBT());
+					getList(loadedCallbacks, String.valueOf(callback.getStopSanity())).add(callbackData);
+				}
+			}
+		}
+		nbt.put("unloadedCallbacks", unloadedCallbacks);
+		nbt.put("loadedCallbacks", loadedCallbacks);
+		return nbt;
+	}
+
+	@Override
+	public void deserializeNBT(CompoundNBT nbt) {
+		SanityScheduler.cancel(this.wakeup);
+		this.lastTick = -1;
+		this.pendingUpdate = false;
+		this.dormancy = Dormancy.NONE;
+		this.minSanity = nbt.getInt("minSanity");
+		this.maxSanity = nbt.getInt("maxSanity");
+		this.sanity = nbt.getInt("sanity");
+		this.prevSanity = nbt.getInt("prevSanity");
+		this.tempMinSanity = nbt.getInt("tempMinSanity");
+		this.tempMaxSanity = nbt.getInt("tempMaxSanity");
+		this.firstInteraction = nbt.getBoolean("firstInteraction");
+		this.time = nbt.getInt("time");
+		this.recoveryTime = nbt.getInt("recoveryTime");
+		this.attackTime = nbt.getInt("attackTime");
+		this.threshold = nbt.getInt("threshold");
+		this.recoveryThreshold = nbt.getInt("recoveryThreshold");
+		this.attackThreshold = nbt.getInt("attackThreshold");
+		this.lastSeenTick = nbt.contains("lastSeenTick") ? nbt.getLong("lastSeenTick") : -1;
+		CallbackIndex index = SanityCallbacks.getCallbackIndex();
+		this.resetCallbacks(index.size());
+		boolean[] known = new boolean[index.size()];
+		CompoundNBT unloadedCallbacks = nbt.getCompound("unloadedCallbacks");
+		unloadedCallbacks.keySet().forEach(startSanity -> {
+			ListNBT list = unloadedCallbacks.getList(startSanity, Constants.NBT.TAG_STRING);
+			list.forEach(inbt -> {
+				if (inbt instanceof StringNBT) {
+					int ordinal = index.getOrdinal(new ResourceLocation(((StringNBT) inbt).getString()));
+					if(ordinal != -1) known[ordinal] = true;
+				} else {
+					throw new RuntimeException("The specified INBT is not formatted as a StringNBT.");
+				}
+			});
+		});
+		CompoundNBT loadedCallbacks = nbt.getCompound("loadedCallbacks");
+		loadedCallbacks.keySet().forEach(stopSanity -> {
+			ListNBT list = loadedCallbacks.getList(stopSanity, Constants.NBT.TAG_COMPOUND);
+			list.forEach(inbt -> {
+				if (inbt instanceof CompoundNBT) {
+					int ordinal = index.getOrdinal(new ResourceLocation(((CompoundNBT) inbt).getString("id")));
+					if(ordinal == -1) return;
+					SanityCallback callback = index.create(ordinal);
+					if(((CompoundNBT) inbt).contains("data")) callback.getHandler().deserializeNBT(((CompoundNBT) inbt).getCompound("data"));
+					if (callback.getHandler().restartOnReload()) deferredCallbacks.add((player, inst, sanity, prevSanity) -> callback.getHandler().call(player, inst, sanity, prevSanity, Phase.START));
+					this.load(ordinal, callback);
+					known[ordinal] = true;
+				} else {
+					throw new RuntimeException("The specified INBT is not formatted as a StringNBT or CompoundNBT.");
+				}
+			});
+		});
+		for(int ordinal = 0; ordinal < known.length; ++ordinal) {
+			if(!known[ordinal] && this.sanity <= index.getStartSanity(ordinal)) {
+				SanityCallback callback = index.create(ordinal);
+				deferredCallbacks.add((player, inst, sanity, prevSanity) -> callback.getHandler().call(player, inst, sanity, prevSanity, Phase.START));
+				this.load(ordinal, callback);
+			}
+		}
+	}
+
+	/**
+	 * The reasons a sanity instance can be dormant for. Each
+	 * reason is tested both to enter dormancy and every tick
+	 * to check whether the instance should stay dormant.
+	 */
+	private enum Dormancy {
+		NONE((sanity, player) -> false),
+		/**
+		 * The player is in a gamemode where sanity cannot change.
+		 */
+		GAMEMODE((sanity, player) -> !player.interactionManager.survivalOrAdventure()),
+		/**
+		 * The player has been idle for longer than the configured time
+		 * and has not been damaged since.
+		 */
+		IDLE((sanity, player) -> SanityScheduler.getIdleTime() > 0 && Util.milliTime() - player.getLastActiveTime() >= SanityScheduler.getIdleTime()
+				&& (sanity.inputWorld == null || getHearts(player) == sanity.inputHearts)),
+		/**
+		 * The player is at maximum sanity within enough light to stay there.
+		 */
+		STEADY(PlayerSanity::isSteady);
+
+		private static final Dormancy[] VALUES = {GAMEMODE, IDLE, STEADY};
+		private final BiPredicate<PlayerSanity, ServerPlayerEntity> condition;
+
+		private Dormancy(BiPredicate<PlayerSanity, ServerPlayerEntity> condition) {
+			this.condition = condition;
+		}
+
+		boolean test(PlayerSanity sanity, ServerPlayerEntity player) {
+			return this.condition.test(sanity, player);
+		}
+	}
+
+	private static ListNBT getList(CompoundNBT nbt, String key) {
+		if(!nbt.contains(key)) nbt.put(key, new ListNBT());
+		return (ListNBT) nbt.get(key);
+	}
+}
@@ -0,0 +1,193 @@
+/*
+ * Paranoia
+ * Copyright (C) 2020 ChampionAsh5357
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as 
+ * published by the Free Software Foundation version 3.0 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.championash5357.paranoia.api.sanity;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Holds the tick information of all players woken within the
+ * same pass as parallel primitive arrays. The threshold math
+ * is run over the arrays in a single loop and produces the
+ * number of sanity and max sanity changes per player. The
+ * changes are only applied once
+ * every player has been computed. Large batches can compute
+ * their arrays on the common {@link ForkJoinPool} as the math
+ * does not touch the world. For internal use only.
+ */
+final class SanityBatch {
+
+	private PlayerSanity[] players;
+	int[] time, recoveryTime, attackTime;
+	int[] threshold, recoveryThreshold, attackThreshold;
+	int[] sampledThreshold, sampledRecoveryThreshold;
+	int[] carry;
+	double[] sampledMultiplier;
+	boolean[] recovering;
+	int[] sanityChanges, recoveries;
+	private int size;
+	private static int parallelThreshold;
+
+	SanityBatch(int capacity) {
+		this.players = new PlayerSanity[capacity];
+		this.time = new int[capacity];
+		this.recoveryTime = new int[capacity];
+		this.attackTime = new int[capacity];
+		this.threshold = new int[capacity];
+		this.recoveryThreshold = new int[capacity];
+		this.attackThreshold = new int[capacity];
+		this.sampledThreshold = new int[capacity];
+		this.sampledRecoveryThreshold = new int[capacity];
+		this.carry = new int[capacity];
+		this.sampledMultiplier = new double[capacity];
+		this.recovering = new boolean[capacity];
+		this.sanityChanges = new int[capacity];
+		this.recoveries = new int[capacity];
+	}
+
+	/**
+	 * Sets the minimum number of players within a batch before
+	 * the computation is split across the common pool. A value
+	 * of zero always computes on the calling thread.
+	 */
+	static void setParallelThreshold(int threshold) {
+		parallelThreshold = threshold;
+	}
+
+	int size() {
+		return this.size;
+	}
+
+	/**
+	 * Copies the tick information of the sanity instance into
+	 * the next free index.
+	 */
+	void add(PlayerSanity sanity) {
+		if(this.size == this.players.length) this.grow(this.size * 2);
+		sanity.store(this, this.size);
+		this.players[this.size++] = sanity;
+	}
+
+	/**
+	 * Advances every player within the batch by one tick, copies
+	 * the results back and then applies the changes in the order
+	 * the players were added.
+	 * 
+	 * @param currentTick The current server tick.
+	 */
+	void process(long currentTick) {
+		if(this.size == 0) return;
+		if(parallelThreshold > 0 && this.size >= parallelThreshold) ForkJoinPool.commonPool().invoke(new Compute(0, this.size, Math.max(64, parallelThreshold / ForkJoinPool.getCommonPoolParallelism())));
+		else this.compute(0, this.size);
+		int size = this.size;
+		this.size = 0;
+		for(int i = 0; i < size; ++i) {
+			PlayerSanity sanity = this.players[i];
+			this.players[i] = null;
+			sanity.load(this, i);
+			sanity.finishWakeup(currentTick, this.sanityChanges[i], this.recoveries[i]);
+		}
+	}
+
+	/**
+	 * Runs the threshold math over the specified range. Only
+	 * reads and writes the arrays of the batch. A late wakeup
+	 * can cover several thresholds, so every threshold within
+	 * the ticks since the last wakeup is counted and only the
+	 * remainder is carried over. Coarse wakeups therefore change
+	 * sanity at the same rate as exact ones.
+	 */
+	void compute(int from, int to) {
+		for(int i = from; i < to; ++i) {
+			if(this.recovering[i]) this.recoveryThreshold[i] = getRecoveryThreshold(this.recoveryThreshold[i], this.sampledRecoveryThreshold[i], this.sampledMultiplier[i]);
+			this.threshold[i] = getThreshold(this.threshold[i], this.sampledThreshold[i]);
+			if(this.attackThreshold[i] != -1) this.attackTime[i]++;
+			if(this.recoveryThreshold[i] != -1 && this.recovering[i]) this.recoveryTime[i]++;
+			else this.recoveryTime[i] = 0;
+			this.time[i]++;
+
+			this.recoveries[i] = 0;
+			if(this.recoveryThreshold[i] != -1 && this.recoveryTime[i] >= this.recoveryThreshold[i]) {
+				int overshoot = this.recoveryTime[i] - Math.max(1, this.recoveryThreshold[i]), period = getRecoveryThreshold(-1, this.sampledRecoveryThreshold[i], this.sampledMultiplier[i]);
+				this.recoveries[i] = 1 + (period != -1 && overshoot > 0 ? overshoot / Math.max(1, period) : 0);
+				this.recoveryTime[i] = Math.min(period != -1 && overshoot > 0 ? overshoot % Math.max(1, period) : 0, this.carry[i]);
+				this.recoveryThreshold[i] = -1;
+			}
+			this.sanityChanges[i] = 0;
+			if(this.time[i] >= Math.abs(this.threshold[i])) {
+				int overshoot = this.time[i] - Math.max(1, Math.abs(this.threshold[i])), period = Math.max(1, Math.abs(getThreshold(-1, this.sampledThreshold[i])));
+				int count = 1 + (overshoot > 0 ? overshoot / period : 0);
+				this.sanityChanges[i] = this.threshold[i] > 0 ? count : -count;
+				this.time[i] = Math.min(overshoot > 0 ? overshoot % period : 0, this.carry[i]);
+				this.threshold[i] = -1;
+			}
+		}
+	}
+
+	private void grow(int capacity) {
+		this.players = Arrays.copyOf(this.players, capacity);
+		this.time = Arrays.copyOf(this.time, capacity);
+		this.recoveryTime = Arrays.copyOf(this.recoveryTime, capacity);
+		this.attackTime = Arrays.copyOf(this.attackTime, capacity);
+		this.threshold = Arrays.copyOf(this.threshold, capacity);
+		this.recoveryThreshold = Arrays.copyOf(this.recoveryThreshold, capacity);
+		this.attackThreshold = Arrays.copyOf(this.attackThreshold, capacity);
+		this.sampledThreshold = Arrays.copyOf(this.sampledThreshold, capacity);
+		this.sampledRecoveryThreshold = Arrays.copyOf(this.sampledRecoveryThreshold, capacity);
+		this.carry = Arrays.copyOf(this.carry, capacity);
+		this.sampledMultiplier = Arrays.copyOf(this.sampledMultiplier, capacity);
+		this.recovering = Arrays.copyOf(this.recovering, capacity);
+		this.sanityChanges = Arrays.copyOf(this.sanityChanges, capacity);
+		this.recoveries = Arrays.copyOf(this.recoveries, capacity);
+	}
+
+	/**
+	 * Splits the range in half until it is small enough to be
+	 * computed directly. Each index is only written by a single
+	 * task and the results are visible once the pool returns.
+	 */
+	private class Compute extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+		private final int from, to, split;
+
+		Compute(int from, int to, int split) {
+			this.from = from;
+			this.to = to;
+			this.split = split;
+		}
+
+		@Override
+		protected void compute() {
+			if(this.to - this.from <= this.split) SanityBatch.this.compute(this.from, this.to);
+			else {
+				int middle = (this.from + this.to) >>> 1;
+				invokeAll(new Compute(this.from, middle, this.split), new Compute(middle, this.to, this.split));
+			}
+		}
+	}
+
+	static int getRecoveryThreshold(int current, int sampled, double multiplier) {
+		return (int) (sampled != -1 ? Math.max(current, sampled * multiplier) : -1);
+	}
+
+	static int getThreshold(int current, int sampled) {
+		return sampled > 0 ? Math.max(current, sampled) : -1 * Math.min(current == -1 ? Integer.MAX_VALUE : Math.abs(current), Math.abs(sampled));
+	}
+}
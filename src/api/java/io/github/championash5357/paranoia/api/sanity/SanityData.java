@@ -0,0 +1,1108 @@
+/*
+ * Paranoia
+ * Copyright (C) 2020 ChampionAsh5357
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as 
+ * published by the Free Software Foundation version 3.0 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.championash5357.paranoia.api.sanity;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+import javax.annotation.Nullable;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.google.common.hash.HashCode;
+import com.google.gson.*;
+
+import io.github.championash5357.paranoia.api.callback.SanityCallbacks;
+import io.github.championash5357.paranoia.api.util.Expression;
+import io.github.championash5357.paranoia.api.util.ScopeIds;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.ai.attributes.Attribute;
+import net.minecraft.entity.ai.attributes.AttributeModifier;
+import net.minecraft.item.Item;
+import net.minecraft.tags.ITag;
+import net.minecraft.tags.ITagCollection;
+import net.minecraft.tags.ITagCollectionSupplier;
+import net.minecraft.tags.TagCollectionManager;
+import net.minecraft.util.JSONUtils;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.registry.Registry;
+import net.minecraftforge.registries.ForgeRegistries;
+
+/**
+ * An immutable snapshot of the sanity information loaded
+ * by the {@link SanityManager}. A snapshot is fully parsed
+ * and compiled before it is published, so a reader holding
+ * onto one always sees consistent values even while the
+ * next snapshot is being built.
+ */
+public final class SanityData {
+
+	private static final Logger LOGGER = LogManager.getLogger();
+	private static final int LIGHT_LEVELS = 16;
+	private static final int HEARTS = 20, DEFAULT_MIN_SANITY = 0, DEFAULT_MAX_SANITY = 100;
+	private static final String FALLBACK_KEY = "*", TAG_PREFIX = "#";
+	private static final String DIMENSIONS_KEY = "dimensions", BIOMES_KEY = "biomes";
+	private static final int[] NO_ATTACKS = new int[0], NO_ENTRIES = new int[0];
+	private static final Rates[] NO_RATES = new Rates[0];
+	private static final Rates[][] NO_BIOME_RATES = new Rates[0][];
+	private static final int UNSET = Integer.MIN_VALUE;
+	/**
+	 * The snapshot used before any sanity information has been loaded.
+	 */
+	static final SanityData EMPTY = new SanityData();
+	private final Rates rates;
+	private final Rates[] dimensionRates; // Indexed by interned dimension id, null if none
+	private final Rates[][] biomeRates; // Indexed by interned dimension id plus one, or zero for dimensions without rates, then by interned biome id
+	private final int[] entitySanityLossTable; // Indexed by entity type id, unset if none
+	private final int[] itemSanityTable; // Indexed by item id, unset if none
+	private final Map<EntityType<?>, Integer> entitySanityLoss;
+	private final Map<ResourceLocation, Integer> entitySanityTags; // In precedence order, the last tag wins
+	private final Map<Item, Integer> itemSanity;
+	private final Map<ResourceLocation, Integer> itemSanityTags; // In precedence order, the last tag wins
+	private final Map<Attribute, AttributeCurve> attributeCurves;
+	private final int[] attributeChangePoints; // Sorted sanity levels at which any amplifier changes
+	private final Map<ResourceLocation, Fragment> fragments; // The files the snapshot was built from in load order
+	private final int version;
+
+	private SanityData() {
+		this.rates = new Rates();
+		this.dimensionRates = NO_RATES;
+		this.biomeRates = NO_BIOME_RATES;
+		this.entitySanityLossTable = NO_ENTRIES;
+		this.itemSanityTable = NO_ENTRIES;
+		this.entitySanityLoss = Collections.emptyMap();
+		this.entitySanityTags = Collections.emptyMap();
+		this.itemSanity = Collections.emptyMap();
+		this.itemSanityTags = Collections.emptyMap();
+		this.attributeCurves = Collections.emptyMap();
+		this.attributeChangePoints = NO_ENTRIES;
+		this.fragments = Collections.emptyMap();
+		this.version = 0;
+	}
+
+	private SanityData(Parser parser, Map<ResourceLocation, Fragment> fragments, int version) {
+		this.rates = parser.rates;
+		this.dimensionRates = parser.dimensionRates;
+		this.biomeRates = parser.biomeRates;
+		this.entitySanityLossTable = parser.entitySanityLossTable;
+		this.itemSanityTable = parser.itemSanityTable;
+		this.entitySanityLoss = parser.entitySanityLoss;
+		this.entitySanityTags = parser.entitySanityTags;
+		this.itemSanity = parser.itemSanity;
+		this.itemSanityTags = parser.itemSanityTags;
+		this.attributeCurves = parser.attributes;
+		this.attributeChangePoints = parser.attributes.values().stream().flatMapToInt(curve -> Arrays.stream(curve.getChangePoints())).distinct().sorted().toArray();
+		this.fragments = Collections.unmodifiableMap(new LinkedHashMap<>(fragments));
+		this.version = version;
+	}
+
+	private SanityData(SanityData base, int[] entitySanityLossTable, int[] itemSanityTable) {
+		this.rates = base.rates;
+		this.dimensionRates = base.dimensionRates;
+		this.biomeRates = base.biomeRates;
+		this.entitySanityLossTable = entitySanityLossTable;
+		this.itemSanityTable = itemSanityTable;
+		this.entitySanityLoss = base.entitySanityLoss;
+		this.entitySanityTags = base.entitySanityTags;
+		this.itemSanity = base.itemSanity;
+		this.itemSanityTags = base.itemSanityTags;
+		this.attributeCurves = base.attributeCurves;
+		this.attributeChangePoints = base.attributeChangePoints;
+		this.fragments = base.fragments;
+		this.version = base.version;
+	}
+
+	/**
+	 * Expands the tag entries of the snapshot against the
+	 * specified tags. The version is kept as is since none
+	 * of the player inputs are affected.
+	 * 
+	 * @param tags The tags currently bound on the server.
+	 * @return The snapshot with its tag entries resolved.
+	 */
+	SanityData bindTags(ITagCollectionSupplier tags) {
+		if(this.entitySanityTags.isEmpty() && this.itemSanityTags.isEmpty()) return this;
+		return new SanityData(this, compileEntries(this.entitySanityLoss, this.entitySanityTags, tags.getEntityTypeTags(), Registry.ENTITY_TYPE::getId, true),
+				compileEntries(this.itemSanity, this.itemSanityTags, tags.getItemTags(), Item::getIdFromItem, true));
+	}
+
+	/**
+	 * Gets the parsed file the snapshot was built from.
+	 * 
+	 * @param id The id of the file.
+	 * @return The parsed file, or null if the snapshot does not contain it.
+	 */
+	@Nullable
+	Fragment getFragment(ResourceLocation id) {
+		return this.fragments.get(id);
+	}
+
+	/**
+	 * Gets the ids of all files the snapshot was built from.
+	 * 
+	 * @return The file ids in load order.
+	 */
+	Set<ResourceLocation> getFragmentIds() {
+		return this.fragments.keySet();
+	}
+
+	/**
+	 * Gets a number which changes every time
+	 * the sanity information is reloaded.
+	 * 
+	 * @return The version of the sanity information.
+	 */
+	public int getVersion() {
+		return this.version;
+	}
+
+	/**
+	 * Gets the rates which apply to the whole server.
+	 * 
+	 * @return The rates of the server.
+	 */
+	public Rates getRates() {
+		return this.rates;
+	}
+
+	/**
+	 * Gets the rates which apply within the dimension and biome.
+	 * The entries of a biome are layered over the entries of the
+	 * dimension, which are layered over the entries of the whole
+	 * server, so a biome only replaces the entries it declares.
+	 * 
+	 * @param dimension The interned id of the dimension from {@link ScopeIds#DIMENSIONS}, or -1 if none.
+	 * @param biome The interned id of the biome from {@link ScopeIds#BIOMES}, or -1 if none.
+	 * @return The rates within the dimension and biome.
+	 */
+	public Rates getRates(int dimension, int biome) {
+		Rates dimensionRates = getScope(this.dimensionRates, dimension);
+		Rates rates = biome < 0 || this.biomeRates.length == 0 ? null : getScope(this.biomeRates[dimensionRates != null ? dimension + 1 : 0], biome);
+		if(rates == null) rates = dimensionRates;
+		return rates != null ? rates : this.rates;
+	}
+
+	/**
+	 * Checks whether any biome has its own rates. If not,
+	 * the biome does not need to be looked up at all.
+	 * 
+	 * @return If there are rates for any biome.
+	 */
+	public boolean hasBiomeRates() {
+		return this.biomeRates.length > 0;
+	}
+
+	@Nullable
+	private static Rates getScope(@Nullable Rates[] scopes, int id) {
+		return scopes != null && id >= 0 && id < scopes.length ? scopes[id] : null;
+	}
+
+	/**
+	 * Grabs the current attack threshold of
+	 * the whole server.
+	 * 
+	 * @param sanity The current sanity level.
+	 * @return The attack threshold in ticks.
+	 * @see Rates#getAttackTime(int)
+	 */
+	public int getAttackTime(int sanity) {
+		return this.rates.getAttackTime(sanity);
+	}
+
+	/**
+	 * Grabs the current maximum sanity recovery
+	 * threshold of the whole server.
+	 * 
+	 * @param lightLevel The current light level.
+	 * @return The maximum recovery threshold in ticks.
+	 * @see Rates#getMaxSanityRecoveryTime(int)
+	 */
+	public int getMaxSanityRecoveryTime(int lightLevel) {
+		return this.rates.getMaxSanityRecoveryTime(lightLevel);
+	}
+
+	/**
+	 * Grabs the current sanity change threshold
+	 * of the whole server.
+	 * 
+	 * @param lightLevel The current light level.
+	 * @param hearts The current player hearts.
+	 * @return The sanity change threshold in ticks.
+	 * @see Rates#getSanityLevelTime(int, int)
+	 */
+	public int getSanityLevelTime(int lightLevel, int hearts) {
+		return this.rates.getSanityLevelTime(lightLevel, hearts);
+	}
+
+	
+	/**
+	 * Gets how much sanity should be lost
+	 * when damage is taken from this entity.
+	 * Returns 0 if the entity is not registered.
+	 * 
+	 * @param type The entity type from which the user took damage from.
+	 * @return The amount of sanity to lose.
+	 */
+	public int getSanityLoss(EntityType<?> type) {
+		return getEntry(this.entitySanityLossTable, Registry.ENTITY_TYPE.getId(type));
+	}
+	
+	/**
+	 * Gets how much sanity is gained whenever
+	 * an item is finished being use (e.g. food eaten,
+	 * potion drank). Returns 0 if the item is
+	 * not registered.
+	 * 
+	 * @param item The item from which the user finished using.
+	 * @return The amount of sanity to gain.
+	 */
+	public int getItemSanityEffect(Item item) {
+		return getEntry(this.itemSanityTable, Item.getIdFromItem(item));
+	}
+
+	/**
+	 * Gets the amplifiers of an attribute registered through
+	 * {@link SanityCallbacks#registerAttributeCallback(Attribute, net.minecraft.entity.ai.attributes.AttributeModifier, java.util.function.Function)}.
+	 * Returns null if the attribute is not registered.
+	 * 
+	 * @param attribute The attribute.
+	 * @return The compiled amplifiers of the attribute.
+	 */
+	@Nullable
+	public AttributeCurve getAttributeCurve(Attribute attribute) {
+		return this.attributeCurves.get(attribute);
+	}
+
+	/**
+	 * Checks whether the amplifier of any attribute changes
+	 * anywhere between the two sanity levels. If not, none
+	 * of the attribute modifiers need to be updated.
+	 * 
+	 * @param from The previous sanity level.
+	 * @param to The current sanity level.
+	 * @return If any amplifier may differ between the two levels.
+	 */
+	public boolean haveAttributesChanged(int from, int to) {
+		return AttributeCurve.hasChangePoint(this.attributeChangePoints, from, to);
+	}
+
+	/**
+	 * Writes the compiled tables of the snapshot. Entity and item
+	 * entries are written by their numeric id, so the output is
+	 * only valid for the registry state it was written in. Tag
+	 * entries are written unresolved.
+	 * 
+	 * @param output The output to write to.
+	 * @throws IOException If the output could not be written to.
+	 */
+	void write(DataOutputStream output) throws IOException {
+		this.rates.write(output);
+		writeScopes(output, this.dimensionRates, ScopeIds.DIMENSIONS);
+		writeBiomeScopes(output, this.biomeRates);
+		writeEntries(output, this.entitySanityLoss, Registry.ENTITY_TYPE::getId);
+		writeTags(output, this.entitySanityTags);
+		writeEntries(output, this.itemSanity, Item::getIdFromItem);
+		writeTags(output, this.itemSanityTags);
+		output.writeInt(this.attributeCurves.size());
+		for(Map.Entry<Attribute, AttributeCurve> entry : this.attributeCurves.entrySet()) {
+			writeLocation(output, entry.getKey().getRegistryName());
+			output.writeInt(entry.getValue().getOffset());
+			double[] values = entry.getValue().getValues();
+			output.writeInt(values.length);
+			for(double value : values) output.writeDouble(value);
+		}
+	}
+
+	/**
+	 * Reads a snapshot written by {@link #write(DataOutputStream)}.
+	 * The snapshot does not hold any parsed files, so the next
+	 * reload parses every file again.
+	 * 
+	 * @param buffer The buffer to read from.
+	 * @param version The version of the snapshot.
+	 * @return The read snapshot.
+	 */
+	static SanityData read(ByteBuffer buffer, int version) {
+		Parser parser = new Parser();
+		parser.rates = Rates.read(buffer);
+		parser.dimensionRates = readScopes(buffer, ScopeIds.DIMENSIONS);
+		parser.biomeRates = readBiomeScopes(buffer, parser.dimensionRates);
+		readEntries(buffer, parser.entitySanityLoss, Registry.ENTITY_TYPE::getByValue);
+		readTags(buffer, parser.entitySanityTags);
+		readEntries(buffer, parser.itemSanity, Item::getItemById);
+		readTags(buffer, parser.itemSanityTags);
+		parser.compileRegistryEntries(EMPTY, EnumSet.of(Category.ENTITY_DAMAGE, Category.ITEM_SANITY));
+		Map<Attribute, AttributeCurve> attributes = new HashMap<>();
+		for(int i = buffer.getInt(); i > 0; --i) {
+			Attribute attribute = ForgeRegistries.ATTRIBUTES.getValue(readLocation(buffer));
+			int offset = buffer.getInt();
+			double[] values = new double[buffer.getInt()];
+			if(values.length == 0) throw new IllegalArgumentException("Expected the amplifiers of " + attribute + " to not be empty");
+			buffer.asDoubleBuffer().get(values);
+			buffer.position(buffer.position() + values.length * Double.BYTES);
+			if(attribute != null) attributes.put(attribute, new AttributeCurve(values, offset));
+		}
+		parser.attributes = Collections.unmodifiableMap(attributes);
+		return new SanityData(parser, Collections.emptyMap(), version);
+	}
+
+	private static void writeInts(DataOutputStream output, int[] values) throws IOException {
+		output.writeInt(values.length);
+		for(int value : values) output.writeInt(value);
+	}
+
+	private static int[] readInts(ByteBuffer buffer) {
+		int[] values = new int[buffer.getInt()];
+		buffer.asIntBuffer().get(values);
+		buffer.position(buffer.position() + values.length * Integer.BYTES);
+		return values;
+	}
+
+	private static <T> void writeEntries(DataOutputStream output, Map<T, Integer> entries, ToIntFunction<T> ids) throws IOException {
+		output.writeInt(entries.size());
+		for(Map.Entry<T, Integer> entry : entries.entrySet()) {
+			output.writeInt(ids.applyAsInt(entry.getKey()));
+			output.writeInt(entry.getValue());
+		}
+	}
+
+	private static <T> void readEntries(ByteBuffer buffer, Map<T, Integer> entries, IntFunction<T> values) {
+		for(int i = buffer.getInt(); i > 0; --i) {
+			T key = values.apply(buffer.getInt());
+			int value = buffer.getInt();
+			if(key != null) entries.put(key, value);
+		}
+	}
+
+	private static void writeTags(DataOutputStream output, Map<ResourceLocation, Integer> tags) throws IOException {
+		output.writeInt(tags.size());
+		for(Map.Entry<ResourceLocation, Integer> entry : tags.entrySet()) {
+			writeLocation(output, entry.getKey());
+			output.writeInt(entry.getValue());
+		}
+	}
+
+	private static void readTags(ByteBuffer buffer, Map<ResourceLocation, Integer> tags) {
+		for(int i = buffer.getInt(); i > 0; --i) tags.put(readLocation(buffer), buffer.getInt());
+	}
+
+	/**
+	 * Scopes are written by their key since interned ids
+	 * are only valid for the lifetime of the game.
+	 */
+	private static void writeScopes(DataOutputStream output, Rates[] scopes, ScopeIds ids) throws IOException {
+		int count = 0;
+		for(Rates rates : scopes) if(rates != null) count++;
+		output.writeInt(count);
+		for(int id = 0; id < scopes.length; ++id) {
+			if(scopes[id] == null) continue;
+			writeLocation(output, ids.getLocation(id));
+			scopes[id].write(output);
+		}
+	}
+
+	private static Rates[] readScopes(ByteBuffer buffer, ScopeIds ids) {
+		Map<ResourceLocation, Rates> scopes = new HashMap<>();
+		for(int i = buffer.getInt(); i > 0; --i) scopes.put(readLocation(buffer), Rates.read(buffer));
+		return toScopeTable(scopes, ids);
+	}
+
+	/**
+	 * Biome scopes are written per dimension layer, with the
+	 * layer over the rates of the whole server written first.
+	 */
+	private static void writeBiomeScopes(DataOutputStream output, Rates[][] biomeRates) throws IOException {
+		int count = 0;
+		for(Rates[] scopes : biomeRates) if(scopes != null) count++;
+		output.writeInt(count);
+		for(int id = 0; id < biomeRates.length; ++id) {
+			if(biomeRates[id] == null) continue;
+			output.writeBoolean(id > 0);
+			if(id > 0) writeLocation(output, ScopeIds.DIMENSIONS.getLocation(id - 1));
+			writeScopes(output, biomeRates[id], ScopeIds.BIOMES);
+		}
+	}
+
+	private static Rates[][] readBiomeScopes(ByteBuffer buffer, Rates[] dimensionRates) {
+		int count = buffer.getInt();
+		if(count == 0) return NO_BIOME_RATES;
+		Rates[][] biomeRates = new Rates[dimensionRates.length + 1][];
+		for(int i = 0; i < count; ++i) {
+			int id = buffer.get() != 0 ? ScopeIds.DIMENSIONS.intern(readLocation(buffer)) + 1 : 0;
+			if(id > dimensionRates.length || (id > 0 && dimensionRates[id - 1] == null)) throw new IllegalArgumentException("Expected the biome rates of dimension " + ScopeIds.DIMENSIONS.getLocation(id - 1) + " to have dimension rates");
+			biomeRates[id] = readScopes(buffer, ScopeIds.BIOMES);
+		}
+		if(biomeRates[0] == null) throw new IllegalArgumentException("Expected the biome rates of the whole server");
+		return biomeRates;
+	}
+
+	private static void writeLocation(DataOutputStream output, ResourceLocation location) throws IOException {
+		byte[] name = location.toString().getBytes(StandardCharsets.UTF_8);
+		output.writeInt(name.length);
+		output.write(name);
+	}
+
+	private static ResourceLocation readLocation(ByteBuffer buffer) {
+		byte[] name = new byte[buffer.getInt()];
+		buffer.get(name);
+		return new ResourceLocation(new String(name, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Flattens the rates into a table indexed by the interned
+	 * id of each scope.
+	 */
+	private static Rates[] toScopeTable(Map<ResourceLocation, Rates> scopes, ScopeIds ids) {
+		if(scopes.isEmpty()) return NO_RATES;
+		Map<Integer, Rates> interned = new HashMap<>();
+		scopes.forEach((location, rates) -> interned.put(ids.intern(location), rates));
+		Rates[] table = new Rates[Collections.max(interned.keySet()) + 1];
+		interned.forEach((id, rates) -> table[id] = rates);
+		return table;
+	}
+
+	private static int getEntry(int[] table, int id) {
+		if(id < 0 || id >= table.length) return 0;
+		int value = table[id];
+		return value == UNSET ? 0 : value;
+	}
+
+	/**
+	 * Flattens the entries into a table indexed by the numeric
+	 * registry id of each key. Tags are expanded in order, so a
+	 * later tag overrides an earlier one, and explicit entries
+	 * always override any tag. The table is only as large as the
+	 * highest id with an entry.
+	 */
+	private static <T> int[] compileEntries(Map<T, Integer> entries, Map<ResourceLocation, Integer> tagEntries, ITagCollection<T> tags, ToIntFunction<T> ids, boolean bound) {
+		Map<T, Integer> resolved = new HashMap<>();
+		tagEntries.forEach((name, value) -> {
+			ITag<T> tag = tags.get(name);
+			if(tag != null) tag.getAllElements().forEach(element -> resolved.put(element, value));
+			else if(bound) LOGGER.warn("The tag {} is currently not present or doesn't exist. Skipping.", name);
+		});
+		resolved.putAll(entries);
+		if(resolved.isEmpty()) return NO_ENTRIES;
+		int size = 0;
+		for(T key : resolved.keySet()) size = Math.max(size, ids.applyAsInt(key) + 1);
+		int[] table = new int[size];
+		Arrays.fill(table, UNSET);
+		resolved.forEach((key, value) -> {
+			int id = ids.applyAsInt(key);
+			if(id >= 0) table[id] = value;
+		});
+		return table;
+	}
+
+	/**
+	 * The compiled rate tables which apply either to the whole
+	 * server or only within a single dimension or biome. Rates
+	 * are never changed once they are published.
+	 */
+	public static final class Rates {
+
+		private int[] sanityAttackTable = NO_ATTACKS; // Indexed by sanity minus the offset, -1 if none
+		private int sanityAttackOffset;
+		private int[] maxSanityRecoverTimeTable = new int[LIGHT_LEVELS]; // Indexed by light level, -1 if none
+		private int[] sanityLevelTable = new int[LIGHT_LEVELS]; // Indexed by light level times the number of hearts plus the hearts
+		private int heartCount = 1;
+
+		private Rates() {
+			Arrays.fill(this.maxSanityRecoverTimeTable, -1);
+			Arrays.fill(this.sanityLevelTable, Integer.MAX_VALUE);
+		}
+
+		private static Rates compile(Map<Integer, Expression> sanityAttackMap, Map<Integer, List<Expression>> sanityLevelMap, Map<Integer, Expression> maxSanityRecoverTimeMap) {
+			Rates rates = new Rates();
+			rates.compileSanityAttack(sanityAttackMap);
+			rates.compileSanityLevels(sanityLevelMap);
+			rates.compileMaxSanityRecovery(maxSanityRecoverTimeMap);
+			return rates;
+		}
+
+		/**
+		 * Grabs the current attack threshold for
+		 * when to attack the player. Returns -1
+		 * if no attack time is registered for the
+		 * current sanity level.
+		 * 
+		 * @param sanity The current sanity level.
+		 * @return The attack threshold in ticks.
+		 */
+		public int getAttackTime(int sanity) {
+			int index = sanity - this.sanityAttackOffset;
+			return index >= 0 && index < this.sanityAttackTable.length ? this.sanityAttackTable[index] : -1;
+		}
+	
+		/**
+		 * Grabs the current maximum sanity recovery
+		 * threshold for when to recover the player's max sanity.
+		 * Returns -1 if no maximum recovery time is
+		 * registered for the current light level.
+		 * 
+		 * @param lightLevel The current light level.
+		 * @return The maximum recovery threshold in ticks.
+		 */
+		public int getMaxSanityRecoveryTime(int lightLevel) {
+			return lightLevel >= 0 && lightLevel < LIGHT_LEVELS ? this.maxSanityRecoverTimeTable[lightLevel] : -1;
+		}
+	
+		/**
+		 * Grabs the current sanity change
+		 * threshold for when to change the
+		 * player's sanity level. If the value
+		 * is negative, it will decrease the player
+		 * sanity. Light levels and hearts outside
+		 * of the registered values use the closest
+		 * registered value.
+		 * 
+		 * @param lightLevel The current light level.
+		 * @param hearts The current player hearts.
+		 * @return The sanity change threshold in ticks.
+		 */
+		public int getSanityLevelTime(int lightLevel, int hearts) {
+			return this.sanityLevelTable[MathHelper.clamp(lightLevel, 0, LIGHT_LEVELS - 1) * this.heartCount + MathHelper.clamp(hearts, 0, this.heartCount - 1)];
+		}
+
+		private void write(DataOutputStream output) throws IOException {
+			output.writeInt(this.sanityAttackOffset);
+			writeInts(output, this.sanityAttackTable);
+			writeInts(output, this.maxSanityRecoverTimeTable);
+			output.writeInt(this.heartCount);
+			writeInts(output, this.sanityLevelTable);
+		}
+
+		private static Rates read(ByteBuffer buffer) {
+			Rates rates = new Rates();
+			rates.sanityAttackOffset = buffer.getInt();
+			rates.sanityAttackTable = readInts(buffer);
+			rates.maxSanityRecoverTimeTable = readInts(buffer);
+			if(rates.maxSanityRecoverTimeTable.length != LIGHT_LEVELS) throw new IllegalArgumentException("Expected " + LIGHT_LEVELS + " max sanity recovery times, was " + rates.maxSanityRecoverTimeTable.length);
+			rates.heartCount = buffer.getInt();
+			rates.sanityLevelTable = readInts(buffer);
+			if(rates.heartCount <= 0 || rates.sanityLevelTable.length != LIGHT_LEVELS * rates.heartCount) throw new IllegalArgumentException("Expected " + LIGHT_LEVELS + " sanity levels for " + rates.heartCount + " hearts, was " + rates.sanityLevelTable.length);
+			return rates;
+		}
+
+		/**
+		 * The fallback is tabulated over the default sanity range
+		 * extended by any explicit entries. Negative times disable
+		 * the attack.
+		 */
+		private void compileSanityAttack(Map<Integer, Expression> sanityAttackMap) {
+			Expression fallback = sanityAttackMap.remove(null);
+			if(sanityAttackMap.isEmpty() && fallback == null) {
+				this.sanityAttackTable = NO_ATTACKS;
+				return;
+			}
+			int min = fallback != null ? DEFAULT_MIN_SANITY : Integer.MAX_VALUE, max = fallback != null ? DEFAULT_MAX_SANITY : Integer.MIN_VALUE;
+			for(int sanity : sanityAttackMap.keySet()) {
+				min = Math.min(min, sanity);
+				max = Math.max(max, sanity);
+			}
+			int[] table = new int[max - min + 1];
+			for(int sanity = min; sanity <= max; ++sanity) {
+				Expression expression = sanityAttackMap.getOrDefault(sanity, fallback);
+				table[sanity - min] = expression == null ? -1 : Math.max(-1, Parser.evaluateTicks(expression, -1, sanity));
+			}
+			this.sanityAttackOffset = min;
+			this.sanityAttackTable = table;
+		}
+
+		/**
+		 * Light levels without a breakdown use the fallback if present
+		 * or otherwise the breakdown of the nearest light level, preferring
+		 * the darker one. Breakdowns shorter than the longest one repeat
+		 * their last value.
+		 */
+		private void compileSanityLevels(Map<Integer, List<Expression>> sanityLevelMap) {
+			List<Expression> fallback = sanityLevelMap.remove(null);
+			sanityLevelMap.keySet().removeIf(lightLevel -> {
+				if(lightLevel >= 0 && lightLevel < LIGHT_LEVELS) return false;
+				LOGGER.warn("The light level {} within the sanity levels does not exist. Skipping.", lightLevel);
+				return true;
+			});
+			if(sanityLevelMap.isEmpty() && fallback == null) {
+				LOGGER.warn("No sanity levels are registered. Sanity will not change over time.");
+				this.heartCount = 1;
+				this.sanityLevelTable = new int[LIGHT_LEVELS];
+				Arrays.fill(this.sanityLevelTable, Integer.MAX_VALUE);
+				return;
+			}
+			int heartCount = fallback != null ? fallback.size() : 1;
+			for(List<Expression> breakdown : sanityLevelMap.values()) heartCount = Math.max(heartCount, breakdown.size());
+			int[] table = new int[LIGHT_LEVELS * heartCount];
+			for(int lightLevel = 0; lightLevel < LIGHT_LEVELS; ++lightLevel) {
+				List<Expression> breakdown = sanityLevelMap.get(lightLevel);
+				if(breakdown == null) breakdown = fallback;
+				for(int distance = 1; breakdown == null; ++distance) {
+					breakdown = sanityLevelMap.get(lightLevel - distance);
+					if(breakdown == null) breakdown = sanityLevelMap.get(lightLevel + distance);
+				}
+				for(int hearts = 0; hearts < heartCount; ++hearts)
+					table[lightLevel * heartCount + hearts] = Parser.evaluateTicks(breakdown.get(Math.min(hearts, breakdown.size() - 1)), Integer.MAX_VALUE, lightLevel, hearts);
+			}
+			this.heartCount = heartCount;
+			this.sanityLevelTable = table;
+		}
+
+		private void compileMaxSanityRecovery(Map<Integer, Expression> maxSanityRecoverTimeMap) {
+			Expression fallback = maxSanityRecoverTimeMap.remove(null);
+			maxSanityRecoverTimeMap.keySet().forEach(lightLevel -> {
+				if(lightLevel < 0 || lightLevel >= LIGHT_LEVELS) LOGGER.warn("The light level {} within the max sanity recovery does not exist. Skipping.", lightLevel);
+			});
+			for(int lightLevel = 0; lightLevel < LIGHT_LEVELS; ++lightLevel) {
+				Expression expression = maxSanityRecoverTimeMap.getOrDefault(lightLevel, fallback);
+				int ticks = expression == null ? Integer.MIN_VALUE : Parser.evaluateTicks(expression, Integer.MIN_VALUE, lightLevel);
+				this.maxSanityRecoverTimeTable[lightLevel] = ticks == Integer.MIN_VALUE ? -1 : Math.abs(ticks);
+			}
+		}
+	}
+
+	/**
+	 * The entries of a rate file which apply to the whole server
+	 * along with the entries which only apply within a single
+	 * dimension or biome. The entries of a dimension are applied
+	 * on top of the entries of the whole server and the entries
+	 * of a biome on top of both.
+	 */
+	private static final class Scoped<V> {
+
+		private final Map<Integer, V> global = new HashMap<>();
+		private final Map<ResourceLocation, Map<Integer, V>> dimensions = new HashMap<>(), biomes = new HashMap<>();
+
+		private Map<ResourceLocation, Map<Integer, V>> getScopes(boolean biomes) {
+			return biomes ? this.biomes : this.dimensions;
+		}
+
+		/**
+		 * Gets a copy of the entries which apply within the dimension
+		 * and biome. A null id skips the layer of that scope.
+		 */
+		private Map<Integer, V> get(@Nullable ResourceLocation dimension, @Nullable ResourceLocation biome) {
+			Map<Integer, V> entries = new HashMap<>(this.global);
+			Map<Integer, V> scoped = dimension != null ? this.dimensions.get(dimension) : null;
+			if(scoped != null) entries.putAll(scoped);
+			scoped = biome != null ? this.biomes.get(biome) : null;
+			if(scoped != null) entries.putAll(scoped);
+			return entries;
+		}
+
+		private void merge(Scoped<V> other) {
+			this.global.putAll(other.global);
+			other.dimensions.forEach((id, entries) -> this.dimensions.computeIfAbsent(id, key -> new HashMap<>()).putAll(entries));
+			other.biomes.forEach((id, entries) -> this.biomes.computeIfAbsent(id, key -> new HashMap<>()).putAll(entries));
+		}
+	}
+
+	/**
+	 * The kinds of sanity data files. Each kind is compiled
+	 * separately, so a kind without any changed files keeps
+	 * its compiled tables from the previous snapshot.
+	 */
+	enum Category {
+		SANITY_ATTACK("sanity_attack"),
+		SANITY_LEVELS("sanity_levels"),
+		MAX_SANITY("max_sanity"),
+		ENTITY_DAMAGE("entity_damage"),
+		ITEM_SANITY("item_sanity"),
+		ATTRIBUTES("attributes");
+
+		private final String path;
+
+		private Category(String path) {
+			this.path = path;
+		}
+
+		static Category byId(ResourceLocation id) {
+			for(Category category : values())
+				if(category.path.equals(id.getPath())) return category;
+			throw new JsonIOException("The following json file is incorrectly named or placed: " + id);
+		}
+	}
+
+	/**
+	 * A single parsed data file along with the hash of its
+	 * contents. Kept within the snapshot so that the next
+	 * reload only parses the files which have changed.
+	 */
+	static final class Fragment {
+
+		final Category category;
+		final HashCode hash;
+		private final Consumer<Parser> merge;
+
+		private Fragment(Category category, HashCode hash, Consumer<Parser> merge) {
+			this.category = category;
+			this.hash = hash;
+			this.merge = merge;
+		}
+	}
+
+	/**
+	 * Parses the sanity data files and compiles them into a
+	 * snapshot. Does not touch any shared state and is safe
+	 * to use off the server thread.
+	 */
+	static final class Parser {
+
+		private static final Set<Category> RATE_CATEGORIES = EnumSet.of(Category.SANITY_ATTACK, Category.SANITY_LEVELS, Category.MAX_SANITY);
+		private final Scoped<Expression> sanityAttack = new Scoped<>(), maxSanityRecoverTime = new Scoped<>();
+		private final Scoped<List<Expression>> sanityLevels = new Scoped<>();
+		private Map<EntityType<?>, Integer> entitySanityLoss = new HashMap<>();
+		private Map<ResourceLocation, Integer> entitySanityTags = new LinkedHashMap<>();
+		private Map<Item, Integer> itemSanity = new HashMap<>();
+		private Map<ResourceLocation, Integer> itemSanityTags = new LinkedHashMap<>();
+		private int[] entitySanityLossTable, itemSanityTable;
+		private Rates rates;
+		private Rates[] dimensionRates;
+		private Rates[][] biomeRates;
+		private final Map<Attribute, Map<Integer, Expression>> attributeMap = new HashMap<>();
+		private Map<Attribute, AttributeCurve> attributes;
+
+		/**
+		 * Parses a single data file.
+		 * 
+		 * @param id The id of the file without its folder or extension.
+		 * @param hash The hash of the contents of the file.
+		 * @param element The contents of the file.
+		 * @return The parsed file.
+		 */
+		static Fragment parse(ResourceLocation id, HashCode hash, JsonElement element) {
+			Category category = Category.byId(id);
+			switch(category) {
+			case SANITY_ATTACK: return new Fragment(category, hash, parseSanityAttack(JSONUtils.getJsonObject(element, "sanity_attack")));
+			case SANITY_LEVELS: return new Fragment(category, hash, parseSanityLevels(JSONUtils.getJsonObject(element, "sanity_levels")));
+			case MAX_SANITY: return new Fragment(category, hash, parseMaxSanityRecovery(JSONUtils.getJsonObject(element, "max_sanity")));
+			case ENTITY_DAMAGE: return new Fragment(category, hash, parseEntitySanityLoss(JSONUtils.getJsonObject(element, "entity_damage")));
+			case ITEM_SANITY: return new Fragment(category, hash, parseItemSanity(JSONUtils.getJsonObject(element, "item_sanity")));
+			default: return new Fragment(category, hash, parseAttributes(JSONUtils.getJsonObject(element, "attributes")));
+			}
+		}
+
+		/**
+		 * Compiles the parsed files into a snapshot. Only the categories
+		 * which have changed are merged and compiled again; every other
+		 * category is taken from the previous snapshot as is. The rate
+		 * categories are compiled together, as the rates of a dimension
+		 * or biome combine all three of them. Tag entries
+		 * are expanded against the tags currently bound, which may still be
+		 * those of the previous reload until {@link SanityData#bindTags(ITagCollectionSupplier)}
+		 * is called.
+		 * 
+		 * @param fragments The parsed files in load order.
+		 * @param previous The previous snapshot.
+		 * @param changed The categories which have changed since the previous snapshot.
+		 * @param version The version of the snapshot.
+		 * @return The compiled snapshot.
+		 */
+		static SanityData build(Map<ResourceLocation, Fragment> fragments, SanityData previous, Set<Category> changed, int version) {
+			Set<Category> merged = EnumSet.noneOf(Category.class);
+			merged.addAll(changed);
+			if(!Collections.disjoint(merged, RATE_CATEGORIES)) merged.addAll(RATE_CATEGORIES);
+			Parser parser = new Parser();
+			fragments.values().forEach(fragment -> {
+				if(merged.contains(fragment.category)) fragment.merge.accept(parser);
+			});
+			if(merged.contains(Category.SANITY_ATTACK)) parser.compileRates();
+			else {
+				parser.rates = previous.rates;
+				parser.dimensionRates = previous.dimensionRates;
+				parser.biomeRates = previous.biomeRates;
+			}
+			parser.compileRegistryEntries(previous, changed);
+			if(changed.contains(Category.ATTRIBUTES)) parser.compileAttributes();
+			else parser.attributes = previous.attributeCurves;
+			return new SanityData(parser, fragments, version);
+		}
+
+		/**
+		 * Tabulates the amplifier of every registered attribute over
+		 * the default sanity range extended by any explicit entries.
+		 * Sanity levels without an entry or fallback within the data
+		 * files use the registered amplifier.
+		 */
+		private void compileAttributes() {
+			Map<Attribute, Pair<AttributeModifier, Function<Integer, Double>>> registered = SanityCallbacks.constructAttributeCallbacks();
+			this.attributeMap.keySet().forEach(attribute -> {
+				if(!registered.containsKey(attribute)) LOGGER.warn("The attribute {} has no registered modifier. Skipping.", attribute.getRegistryName());
+			});
+			Map<Attribute, AttributeCurve> attributes = new HashMap<>();
+			registered.forEach((attribute, pair) -> attributes.put(attribute, compileAttribute(attribute, this.attributeMap.getOrDefault(attribute, Collections.emptyMap()), pair.getRight())));
+			this.attributes = Collections.unmodifiableMap(attributes);
+		}
+
+		private static AttributeCurve compileAttribute(Attribute attribute, Map<Integer, Expression> entries, Function<Integer, Double> amplifier) {
+			Expression fallback = entries.get(null);
+			int min = DEFAULT_MIN_SANITY, max = DEFAULT_MAX_SANITY;
+			for(Integer sanity : entries.keySet()) {
+				if(sanity == null) continue;
+				min = Math.min(min, sanity);
+				max = Math.max(max, sanity);
+			}
+			double[] values = new double[max - min + 1];
+			for(int sanity = min; sanity <= max; ++sanity) {
+				Expression expression = entries.getOrDefault(sanity, fallback);
+				double value = expression != null ? expression.evaluate(sanity) : Double.NaN;
+				if(expression != null && Double.isNaN(value)) LOGGER.warn("The amplifier {} of attribute {} is not a number for sanity {}. Using the registered amplifier.", expression, attribute.getRegistryName(), sanity);
+				values[sanity - min] = Double.isNaN(value) ? amplifier.apply(sanity) : value;
+			}
+			return new AttributeCurve(values, min);
+		}
+
+		/**
+		 * A biome can be part of several dimensions, so the rates
+		 * of each biome are compiled once over the entries of the
+		 * whole server and once more for every dimension with its
+		 * own entries.
+		 */
+		private void compileRates() {
+			this.rates = this.compileRates(null, null);
+			Set<ResourceLocation> dimensions = this.getScopes(false), biomes = this.getScopes(true);
+			Map<ResourceLocation, Rates> dimensionRates = new HashMap<>();
+			for(ResourceLocation dimension : dimensions) dimensionRates.put(dimension, this.compileRates(dimension, null));
+			this.dimensionRates = toScopeTable(dimensionRates, ScopeIds.DIMENSIONS);
+			if(biomes.isEmpty()) {
+				this.biomeRates = NO_BIOME_RATES;
+				return;
+			}
+			this.biomeRates = new Rates[this.dimensionRates.length + 1][];
+			this.biomeRates[0] = this.compileBiomeRates(null, biomes);
+			for(ResourceLocation dimension : dimensions) this.biomeRates[ScopeIds.DIMENSIONS.intern(dimension) + 1] = this.compileBiomeRates(dimension, biomes);
+		}
+
+		private Rates[] compileBiomeRates(@Nullable ResourceLocation dimension, Set<ResourceLocation> biomes) {
+			Map<ResourceLocation, Rates> compiled = new HashMap<>();
+			for(ResourceLocation biome : biomes) compiled.put(biome, this.compileRates(dimension, biome));
+			return toScopeTable(compiled, ScopeIds.BIOMES);
+		}
+
+		private Rates compileRates(@Nullable ResourceLocation dimension, @Nullable ResourceLocation biome) {
+			return Rates.compile(this.sanityAttack.get(dimension, biome), this.sanityLevels.get(dimension, biome), this.maxSanityRecoverTime.get(dimension, biome));
+		}
+
+		private Set<ResourceLocation> getScopes(boolean biomes) {
+			Set<ResourceLocation> scopes = new LinkedHashSet<>(this.sanityAttack.getScopes(biomes).keySet());
+			scopes.addAll(this.sanityLevels.getScopes(biomes).keySet());
+			scopes.addAll(this.maxSanityRecoverTime.getScopes(biomes).keySet());
+			return scopes;
+		}
+
+		/**
+		 * Compiles the entity and item entries of the changed categories,
+		 * expanding their tag entries against the tags currently bound.
+		 */
+		private void compileRegistryEntries(SanityData previous, Set<Category> changed) {
+			ITagCollectionSupplier tags = TagCollectionManager.getManager();
+			if(changed.contains(Category.ENTITY_DAMAGE)) {
+				this.entitySanityLoss = Collections.unmodifiableMap(this.entitySanityLoss);
+				this.entitySanityTags = Collections.unmodifiableMap(this.entitySanityTags);
+				this.entitySanityLossTable = compileEntries(this.entitySanityLoss, this.entitySanityTags, tags.getEntityTypeTags(), Registry.ENTITY_TYPE::getId, false);
+			} else {
+				this.entitySanityLoss = previous.entitySanityLoss;
+				this.entitySanityTags = previous.entitySanityTags;
+				this.entitySanityLossTable = previous.entitySanityLossTable;
+			}
+			if(changed.contains(Category.ITEM_SANITY)) {
+				this.itemSanity = Collections.unmodifiableMap(this.itemSanity);
+				this.itemSanityTags = Collections.unmodifiableMap(this.itemSanityTags);
+				this.itemSanityTable = compileEntries(this.itemSanity, this.itemSanityTags, tags.getItemTags(), Item::getIdFromItem, false);
+			} else {
+				this.itemSanity = previous.itemSanity;
+				this.itemSanityTags = previous.itemSanityTags;
+				this.itemSanityTable = previous.itemSanityTable;
+			}
+		}
+
+		/**
+		 * Merges the tag entries of a file. A tag declared again
+		 * is moved to the end so that it takes precedence over
+		 * every tag declared before it.
+		 */
+		private static void mergeTags(Map<ResourceLocation, Integer> tags, Map<ResourceLocation, Integer> entries) {
+			entries.forEach((name, value) -> {
+				tags.remove(name);
+				tags.put(name, value);
+			});
+		}
+
+		/**
+		 * Gets the key of an entry. The fallback key is mapped
+		 * to null and applies to every value without an entry.
+		 */
+		@Nullable
+		private static Integer getKey(String key) {
+			return key.equals(FALLBACK_KEY) ? null : Integer.valueOf(key);
+		}
+
+		/**
+		 * Parses a value which can either be a number or an
+		 * expression over the specified variables.
+		 */
+		private static Expression parseValue(JsonElement element, String name, String... variables) {
+			if(element.isJsonPrimitive() && element.getAsJsonPrimitive().isString()) return Expression.parse(element.getAsString(), variables);
+			if(!element.isJsonPrimitive() || !element.getAsJsonPrimitive().isNumber()) throw new JsonSyntaxException("Expected " + name + " to be a number or an expression, was " + element);
+			return Expression.constant(element.getAsDouble());
+		}
+
+		/**
+		 * Evaluates an expression into a number of ticks. Results
+		 * which are not a finite number are treated as missing.
+		 * Finite results are clamped so that their absolute value
+		 * is always a valid number of ticks.
+		 */
+		private static int evaluateTicks(Expression expression, int missing, double... values) {
+			double value = expression.evaluate(values);
+			if(Double.isNaN(value) || Double.isInfinite(value)) {
+				LOGGER.warn("The expression {} is not a finite number for {}. Skipping.", expression, Arrays.toString(values));
+				return missing;
+			}
+			return (int) MathHelper.clamp(Math.round(value), -Integer.MAX_VALUE, Integer.MAX_VALUE);
+		}
+
+		/**
+		 * Parses the entries of a rate file. Entries within the
+		 * dimensions or biomes object only apply within the keyed
+		 * dimension or biome.
+		 */
+		private static <V> Scoped<V> parseScoped(JsonObject obj, BiConsumer<JsonObject, Map<Integer, V>> entryParser) {
+			Scoped<V> scoped = new Scoped<>();
+			JsonObject entries = new JsonObject();
+			obj.entrySet().forEach(entry -> {
+				if(!entry.getKey().equals(DIMENSIONS_KEY) && !entry.getKey().equals(BIOMES_KEY)) entries.add(entry.getKey(), entry.getValue());
+			});
+			entryParser.accept(entries, scoped.global);
+			parseScopes(obj, DIMENSIONS_KEY, scoped.dimensions, entryParser);
+			parseScopes(obj, BIOMES_KEY, scoped.biomes, entryParser);
+			return scoped;
+		}
+
+		private static <V> void parseScopes(JsonObject obj, String key, Map<ResourceLocation, Map<Integer, V>> scopes, BiConsumer<JsonObject, Map<Integer, V>> entryParser) {
+			if(!obj.has(key)) return;
+			JSONUtils.getJsonObject(obj, key).entrySet().forEach(entry -> {
+				Map<Integer, V> entries = new HashMap<>();
+				entryParser.accept(JSONUtils.getJsonObject(entry.getValue(), entry.getKey()), entries);
+				scopes.put(new ResourceLocation(entry.getKey()), entries);
+			});
+		}
+
+		private static Consumer<Parser> parseSanityAttack(JsonObject obj) {
+			Scoped<Expression> sanityAttack = parseScoped(obj, (entries, sanityAttackMap) ->
+				entries.entrySet().forEach(entry -> sanityAttackMap.put(getKey(entry.getKey()), parseValue(entry.getValue(), entry.getKey(), "sanity"))));
+			return parser -> parser.sanityAttack.merge(sanityAttack);
+		}
+
+		/**
+		 * A light level can either be mapped to an array of values
+		 * for each heart or to a single value used for all hearts.
+		 */
+		private static Consumer<Parser> parseSanityLevels(JsonObject obj) {
+			Scoped<List<Expression>> sanityLevels = parseScoped(obj, (entries, sanityLevelMap) -> entries.entrySet().forEach(entry -> {
+				List<Expression> breakdown = new ArrayList<>();
+				if(entry.getValue().isJsonArray()) entry.getValue().getAsJsonArray().forEach(element -> breakdown.add(parseValue(element, "hearts_breakdown", "light", "hearts")));
+				else breakdown.addAll(Collections.nCopies(HEARTS, parseValue(entry.getValue(), "hearts_breakdown", "light", "hearts")));
+				if(breakdown.isEmpty()) LOGGER.warn("The sanity levels for light level {} are empty. Skipping.", entry.getKey());
+				else sanityLevelMap.put(getKey(entry.getKey()), breakdown);
+			}));
+			return parser -> parser.sanityLevels.merge(sanityLevels);
+		}
+
+		private static Consumer<Parser> parseMaxSanityRecovery(JsonObject obj) {
+			Scoped<Expression> maxSanityRecoverTime = parseScoped(obj, (entries, maxSanityRecoverTimeMap) ->
+				entries.entrySet().forEach(entry -> maxSanityRecoverTimeMap.put(getKey(entry.getKey()), parseValue(entry.getValue(), entry.getKey(), "light"))));
+			return parser -> parser.maxSanityRecoverTime.merge(maxSanityRecoverTime);
+		}
+
+	
+		/**
+		 * Each attribute maps sanity levels to an amplifier,
+		 * overriding the registered amplifier at those levels.
+		 */
+		private static Consumer<Parser> parseAttributes(JsonObject obj) {
+			Map<Attribute, Map<Integer, Expression>> attributeMap = new HashMap<>();
+			obj.entrySet().forEach(entry -> {
+				Attribute attribute = ForgeRegistries.ATTRIBUTES.getValue(new ResourceLocation(entry.getKey()));
+				if(attribute == null) {
+					LOGGER.warn("The attribute {} is currently not present or doesn't exist. Skipping.", entry.getKey());
+					return;
+				}
+				Map<Integer, Expression> amplifiers = new HashMap<>();
+				JSONUtils.getJsonObject(entry.getValue(), entry.getKey()).entrySet().forEach(amplifier -> amplifiers.put(getKey(amplifier.getKey()), parseValue(amplifier.getValue(), amplifier.getKey(), "sanity")));
+				attributeMap.put(attribute, amplifiers);
+			});
+			return parser -> attributeMap.forEach((attribute, amplifiers) -> parser.attributeMap.computeIfAbsent(attribute, key -> new HashMap<>()).putAll(amplifiers));
+		}
+
+		private static Consumer<Parser> parseEntitySanityLoss(JsonObject obj) {
+			boolean replace = JSONUtils.getBoolean(obj, "replace", false);
+			Map<EntityType<?>, Integer> entitySanityLoss = new HashMap<>();
+			Map<ResourceLocation, Integer> entitySanityTags = new LinkedHashMap<>();
+			JSONUtils.getJsonObject(obj, "entries").entrySet().forEach(entry -> {
+				if(entry.getKey().startsWith(TAG_PREFIX)) {
+					entitySanityTags.put(new ResourceLocation(entry.getKey().substring(TAG_PREFIX.length())), -1 * entry.getValue().getAsInt());
+					return;
+				}
+				EntityType<?> type = ForgeRegistries.ENTITIES.getValue(new ResourceLocation(entry.getKey()));
+				if(type == null) LOGGER.warn("The entity {} is currently not present or doesn't exist. Skipping.", entry.getKey());
+				else entitySanityLoss.put(type, -1 * entry.getValue().getAsInt());
+			});
+			return parser -> {
+				if(replace) {
+					parser.entitySanityLoss.clear();
+					parser.entitySanityTags.clear();
+				}
+				parser.entitySanityLoss.putAll(entitySanityLoss);
+				mergeTags(parser.entitySanityTags, entitySanityTags);
+			};
+		}
+	
+		private static Consumer<Parser> parseItemSanity(JsonObject obj) {
+			boolean replace = JSONUtils.getBoolean(obj, "replace", false);
+			Map<Item, Integer> itemSanity = new HashMap<>();
+			Map<ResourceLocation, Integer> itemSanityTags = new LinkedHashMap<>();
+			JSONUtils.getJsonObject(obj, "entries").entrySet().forEach(entry -> {
+				if(entry.getKey().startsWith(TAG_PREFIX)) {
+					itemSanityTags.put(new ResourceLocation(entry.getKey().substring(TAG_PREFIX.length())), entry.getValue().getAsInt());
+					return;
+				}
+				Item item = ForgeRegistries.ITEMS.getValue(new ResourceLocation(entry.getKey()));
+				if(item == null) LOGGER.warn("The entity {} is currently not present or doesn't exist. Skipping.", entry.getKey());
+				else itemSanity.put(item, entry.getValue().getAsInt());
+			});
+			return parser -> {
+				if(replace) {
+					parser.itemSanity.clear();
+					parser.itemSanityTags.clear();
+				}
+				parser.itemSanity.putAll(itemSanity);
+				mergeTags(parser.itemSanityTags, itemSanityTags);
+			};
+		}
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Paranoia
+ * Copyright (C) 2020 ChampionAsh5357
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as 
+ * published by the Free Software Foundation version 3.0 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.championash5357.paranoia.api.sanity;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import io.github.championash5357.paranoia.api.callback.SanityCallbacks;
+import net.minecraft.item.Item;
+import net.minecraft.util.registry.Registry;
+import net.minecraftforge.fml.loading.FMLPaths;
+
+/**
+ * A binary cache of the last compiled {@link SanityData}.
+ * The cache is keyed by the contents of every data file
+ * along with the numeric ids of all entity types and items
+ * and the registered attribute amplifiers, so any change to
+ * the data packs, the registries or the mods misses the cache
+ * instead of loading stale tables.
+ */
+final class SanityDataCache {
+
+	private static final Logger LOGGER = LogManager.getLogger();
+	private static final int MAGIC = 0x50534443, FORMAT = 5;
+	private static final String FOLDER = "paranoia", FILE = "sanity.cache";
+	private static final int AMPLIFIER_MIN_SANITY = 0, AMPLIFIER_MAX_SANITY = 100;
+
+	/**
+	 * Creates a hasher for the key of the cache, already
+	 * seeded with the format and the registry state. The
+	 * id and hash of every data file should be added to it
+	 * in load order.
+	 * 
+	 * @return A new hasher for the key.
+	 */
+	static Hasher newKey() {
+		Hasher hasher = Hashing.sha256().newHasher().putInt(FORMAT);
+		Registry.ENTITY_TYPE.forEach(type -> hasher.putInt(Registry.ENTITY_TYPE.getId(type)).putString(Registry.ENTITY_TYPE.getKey(type).toString(), StandardCharsets.UTF_8));
+		Registry.ITEM.forEach(item -> hasher.putInt(Item.getIdFromItem(item)).putString(Registry.ITEM.getKey(item).toString(), StandardCharsets.UTF_8));
+		Map<String, Function<Integer, Double>> amplifiers = new TreeMap<>();
+		SanityCallbacks.constructAttributeCallbacks().forEach((attribute, pair) -> amplifiers.put(String.valueOf(attribute.getRegistryName()), pair.getRight()));
+		amplifiers.forEach((name, amplifier) -> {
+			hasher.putString(name, StandardCharsets.UTF_8);
+			for(int sanity = AMPLIFIER_MIN_SANITY; sanity <= AMPLIFIER_MAX_SANITY; ++sanity) hasher.putDouble(amplifier.apply(sanity));
+		});
+		return hasher;
+	}
+
+	private static Path getPath() {
+		return FMLPaths.GAMEDIR.get().resolve(FOLDER).resolve(FILE);
+	}
+
+	/**
+	 * Loads the cached snapshot if it was written for the
+	 * same key. The file is mapped into memory rather than
+	 * read through a stream.
+	 * 
+	 * @param key The key of the current data files and registries.
+	 * @param version The version of the loaded snapshot.
+	 * @return The cached snapshot, or null if there is none for the key.
+	 */
+	@Nullable
+	static SanityData load(HashCode key, int version) {
+		Path path = getPath();
+		if(!Files.isRegularFile(path)) return null;
+		try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if(buffer.getInt() != MAGIC || buffer.getInt() != FORMAT) return null;
+			byte[] cachedKey = new byte[buffer.getInt()];
+			buffer.get(cachedKey);
+			if(!HashCode.fromBytes(cachedKey).equals(key)) return null;
+			return SanityData.read(buffer, version);
+		} catch(IOException | RuntimeException e) {
+			LOGGER.warn("Couldn't load the sanity data cache from {}. Rebuilding.", path, e);
+			return null;
+		}
+	}
+
+	/**
+	 * Writes the snapshot to the cache, replacing any previous
+	 * one. The file is written beside the cache and then moved
+	 * over it, so a failed write never leaves a partial cache.
+	 * 
+	 * @param key The key of the current data files and registries.
+	 * @param data The compiled snapshot.
+	 */
+	static void save(HashCode key, SanityData data) {
+		Path path = getPath(), temp = path.resolveSibling(FILE + ".tmp");
+		try {
+			Files.createDirectories(path.getParent());
+			try(DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+				output.writeInt(MAGIC);
+				output.writeInt(FORMAT);
+				byte[] bytes = key.asBytes();
+				output.writeInt(bytes.length);
+				output.write(bytes);
+				data.write(output);
+			}
+			Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch(IOException e) {
+			LOGGER.warn("Couldn't write the sanity data cache to {}", path, e);
+		}
+	}
+}
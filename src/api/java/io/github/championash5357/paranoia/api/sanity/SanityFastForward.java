@@ -0,0 +1,277 @@
+/*
+ * Paranoia
+ * Copyright (C) 2020 ChampionAsh5357
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as 
+ * published by the Free Software Foundation version 3.0 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.championash5357.paranoia.api.sanity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import io.github.championash5357.paranoia.api.callback.CallbackIndex;
+import io.github.championash5357.paranoia.api.callback.SanityCallbacks;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.MathHelper;
+
+/**
+ * Computes the tick information of a {@link PlayerSanity} after
+ * a number of ticks assuming its inputs stay the same. Instead of
+ * running every tick, the computation jumps between the ticks on
+ * which sanity, max sanity or the attack threshold actually change.
+ * Thresholds which fire without changing anything are counted in
+ * closed form, so the cost only depends on the sanity range and not
+ * on the number of ticks. Players are never damaged by a forecast;
+ * attacks are only counted.
+ */
+public final class SanityFastForward {
+
+	private static final long NEVER = Long.MAX_VALUE;
+	private final int minSanity, maxSanity, tempMinSanity, startSanity, startMaxSanity;
+	private final int sampledThreshold, sampledRecoveryThreshold;
+	private final double sampledMultiplier;
+	int sanity, tempMaxSanity;
+	int time, recoveryTime, attackTime;
+	int threshold, recoveryThreshold, attackThreshold;
+	@Nullable
+	SanityData.Rates rates; // The rates the player was sampled with, the rates of the server if null
+	private long ticks, now, sanityChanges, recoveries, attacks;
+	private List<ResourceLocation> started = Collections.emptyList(), stopped = Collections.emptyList();
+
+	SanityFastForward(int minSanity, int maxSanity, int tempMinSanity, int tempMaxSanity, int sanity, int sampledThreshold, int sampledRecoveryThreshold, double sampledMultiplier) {
+		this.minSanity = minSanity;
+		this.maxSanity = maxSanity;
+		this.tempMinSanity = tempMinSanity;
+		this.tempMaxSanity = this.startMaxSanity = tempMaxSanity;
+		this.sanity = this.startSanity = sanity;
+		this.sampledThreshold = sampledThreshold;
+		this.sampledRecoveryThreshold = sampledRecoveryThreshold;
+		this.sampledMultiplier = sampledMultiplier;
+	}
+
+	/**
+	 * Advances the tick information by the specified number of
+	 * ticks. Matches advancing the instance one tick at a time
+	 * with a wakeup on every tick a threshold is due.
+	 */
+	void run(long ticks) {
+		if(ticks <= 0) return;
+		this.ticks = ticks;
+		SanityData.Rates rates = this.rates != null ? this.rates : SanityCallbacks.getSanityManager().getData().getRates();
+		int direction = this.sampledThreshold > 0 ? 1 : -1;
+		long period = Math.max(1, Math.abs(SanityBatch.getThreshold(-1, this.sampledThreshold)));
+		long firstFire = Math.max(1, Math.abs(SanityBatch.getThreshold(this.threshold, this.sampledThreshold)) - this.time);
+		boolean recovering = this.tempMaxSanity != this.maxSanity;
+		int startRecoveryThreshold = recovering ? SanityBatch.getRecoveryThreshold(this.recoveryThreshold, this.sampledRecoveryThreshold, this.sampledMultiplier) : this.recoveryThreshold;
+		long recoveryPeriod = Math.max(1, SanityBatch.getRecoveryThreshold(-1, this.sampledRecoveryThreshold, this.sampledMultiplier));
+		long nextRecovery = recovering && startRecoveryThreshold != -1 ? Math.max(1, startRecoveryThreshold - this.recoveryTime) : NEVER, lastRecovery = -1;
+
+		while(true) {
+			long nextChange = this.getNextChange(direction, firstFire, period, nextRecovery);
+			if(nextChange > ticks) break;
+			this.advanceAttacks(nextChange - 1, rates);
+			if(this.attackThreshold != -1) this.attackTime++;
+			this.now = nextChange;
+			if(nextChange == nextRecovery) {
+				this.tempMaxSanity = MathHelper.clamp(this.tempMaxSanity + 1, this.tempMinSanity, this.maxSanity);
+				this.recoveries++;
+				lastRecovery = nextChange;
+				nextRecovery = this.tempMaxSanity != this.maxSanity ? nextChange + recoveryPeriod : NEVER;
+			}
+			if(nextChange >= firstFire && (nextChange - firstFire) % period == 0 && this.canChange(direction)) {
+				this.sanity += direction;
+				this.sanityChanges++;
+				int attackThreshold = rates.getAttackTime(this.sanity);
+				this.attackThreshold = attackThreshold != -1 ? Math.min(this.attackThreshold == -1 ? Integer.MAX_VALUE : this.attackThreshold, attackThreshold) : -1;
+				if(this.attackThreshold == -1) this.attackTime = 0;
+			}
+			if(this.attackThreshold != -1 && this.attackTime >= this.attackThreshold) this.attack(rates);
+		}
+		this.advanceAttacks(ticks, rates);
+
+		if(firstFire <= ticks) {
+			long lastFire = firstFire + (ticks - firstFire) / period * period;
+			this.time = (int) (ticks - lastFire);
+			this.threshold = lastFire == ticks ? -1 : SanityBatch.getThreshold(-1, this.sampledThreshold);
+		} else {
+			this.time += (int) ticks;
+			this.threshold = SanityBatch.getThreshold(this.threshold, this.sampledThreshold);
+		}
+		if(!recovering) this.recoveryTime = 0;
+		else if(lastRecovery != -1 && (lastRecovery == ticks || this.tempMaxSanity == this.maxSanity)) {
+			this.recoveryTime = 0;
+			this.recoveryThreshold = -1;
+		} else {
+			this.recoveryThreshold = lastRecovery != -1 ? SanityBatch.getRecoveryThreshold(-1, this.sampledRecoveryThreshold, this.sampledMultiplier) : startRecoveryThreshold;
+			this.recoveryTime = this.recoveryThreshold == -1 ? 0 : (int) (lastRecovery != -1 ? ticks - lastRecovery : this.recoveryTime + ticks);
+		}
+		this.collectCallbacks();
+	}
+
+	/**
+	 * Gets the next tick on which sanity or max sanity changes.
+	 * Thresholds reached while sanity is pinned to a bound are
+	 * skipped up to the next recovery, as only a recovery can
+	 * free sanity again.
+	 */
+	private long getNextChange(int direction, long firstFire, long period, long nextRecovery) {
+		long from = this.canChange(direction) ? this.now + 1 : direction > 0 && nextRecovery != NEVER ? nextRecovery : NEVER;
+		if(from == NEVER) return nextRecovery;
+		long fire = from <= firstFire ? firstFire : firstFire + (from - firstFire + period - 1) / period * period;
+		return Math.min(fire, nextRecovery);
+	}
+
+	private boolean canChange(int direction) {
+		return direction > 0 ? this.sanity < this.tempMaxSanity : this.sanity > this.minSanity;
+	}
+
+	/**
+	 * Advances the attack counter up to and including the specified
+	 * tick while sanity stays the same. The first attack uses the
+	 * current threshold and every attack afterwards the threshold
+	 * of the current sanity.
+	 */
+	private void advanceAttacks(long to, SanityData.Rates rates) {
+		if(to <= this.now) return;
+		if(this.attackThreshold != -1) {
+			long first = this.now + Math.max(1, this.attackThreshold - this.attackTime);
+			if(first > to) this.attackTime += (int) (to - this.now);
+			else {
+				this.now = first;
+				this.attack(rates);
+				if(this.attackThreshold != -1) {
+					long period = Math.max(1, this.attackThreshold), count = (to - this.now) / period;
+					this.attacks += count;
+					this.attackTime = (int) (to - this.now - count * period);
+				}
+			}
+		}
+		this.now = to;
+	}
+
+	private void attack(SanityData.Rates rates) {
+		this.attacks++;
+		this.attackTime = 0;
+		this.attackThreshold = rates.getAttackTime(this.sanity);
+	}
+
+	private void collectCallbacks() {
+		if(this.sanity == this.startSanity) return;
+		CallbackIndex index = SanityCallbacks.getCallbackIndex();
+		List<ResourceLocation> crossed = new ArrayList<>();
+		if(this.sanity < this.startSanity) {
+			for(int i = index.findStart(this.startSanity) - 1, end = index.findStart(this.sanity); i >= end; --i) crossed.add(index.getId(index.getByStart(i)));
+			this.started = crossed;
+		} else {
+			for(int i = index.findStop(this.startSanity + 1), end = index.findStop(this.sanity + 1); i < end; ++i) crossed.add(index.getId(index.getByStop(i)));
+			this.stopped = crossed;
+		}
+	}
+
+	/**
+	 * Gets the number of ticks forecast.
+	 * 
+	 * @return The number of ticks.
+	 */
+	public long getTicks() {
+		return this.ticks;
+	}
+
+	/**
+	 * Gets the sanity at the end of the forecast.
+	 * 
+	 * @return The sanity.
+	 */
+	public int getSanity() {
+		return this.sanity;
+	}
+
+	/**
+	 * Gets the temporary max sanity at the end of the forecast.
+	 * 
+	 * @return The max sanity.
+	 */
+	public int getMaxSanity() {
+		return this.tempMaxSanity;
+	}
+
+	/**
+	 * Gets the change in sanity over the forecast.
+	 * 
+	 * @return The sanity change.
+	 */
+	public int getSanityChange() {
+		return this.sanity - this.startSanity;
+	}
+
+	/**
+	 * Gets the change in max sanity over the forecast.
+	 * 
+	 * @return The max sanity change.
+	 */
+	public int getMaxSanityChange() {
+		return this.tempMaxSanity - this.startMaxSanity;
+	}
+
+	/**
+	 * Gets the number of times sanity changed by one.
+	 * 
+	 * @return The number of sanity changes.
+	 */
+	public long getSanityChanges() {
+		return this.sanityChanges;
+	}
+
+	/**
+	 * Gets the number of times max sanity recovered by one.
+	 * 
+	 * @return The number of recoveries.
+	 */
+	public long getRecoveries() {
+		return this.recoveries;
+	}
+
+	/**
+	 * Gets the number of attacks the player would have received.
+	 * Attacks are assumed to not change the health of the player.
+	 * 
+	 * @return The number of attacks.
+	 */
+	public long getAttacks() {
+		return this.attacks;
+	}
+
+	/**
+	 * Gets the callbacks whose start sanity was passed while
+	 * sanity was falling.
+	 * 
+	 * @return The started callbacks in the order they are reached.
+	 */
+	public List<ResourceLocation> getStartedCallbacks() {
+		return this.started;
+	}
+
+	/**
+	 * Gets the callbacks whose stop sanity was passed while
+	 * sanity was rising.
+	 * 
+	 * @return The stopped callbacks in the order they are reached.
+	 */
+	public List<ResourceLocation> getStoppedCallbacks() {
+		return this.stopped;
+	}
+}
@@ -17,95 +17,154 @@
 
 package io.github.championash5357.paranoia.api.sanity;
 
+import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.commons.io.IOUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import com.google.gson.*;
 
-import net.minecraft.client.resources.JsonReloadListener;
+import net.minecraft.client.resources.ReloadListener;
 import net.minecraft.entity.EntityType;
 import net.minecraft.item.Item;
 import net.minecraft.profiler.IProfiler;
+import net.minecraft.resources.IResource;
 import net.minecraft.resources.IResourceManager;
+import net.minecraft.tags.ITagCollectionSupplier;
 import net.minecraft.util.JSONUtils;
 import net.minecraft.util.ResourceLocation;
-import net.minecraftforge.registries.ForgeRegistries;
 
 /**
  * Grabs the server side information to be used by
  * the sanity instance when applicable. Since these
  * are JSON files, they are not referenced by any
  * callbacks and instead handled externally or inside
- * {@link ISanity#tick()}.
+ * {@link ISanity#tick()}. The files are read, parsed
+ * and compiled on the background executor of the
+ * reload into a {@link SanityData} snapshot, which
+ * then replaces the current one in a single write.
  */
-public class SanityManager extends JsonReloadListener {
+public class SanityManager extends ReloadListener<SanityData> {
 
 	private static final Gson GSON = (new GsonBuilder()).setPrettyPrinting().disableHtmlEscaping().create();
 	private static final Logger LOGGER = LogManager.getLogger();
-	private final Map<Integer, Integer> sanityAttackMap = new HashMap<>();
-	private final Map<Integer, Integer> maxSanityRecoverTimeMap = new HashMap<>();
-	private final Map<Integer, List<Integer>> sanityLevelMap = new HashMap<>();
-	private final Map<EntityType<?>, Integer> entitySanityLoss = new HashMap<>();
-	private final Map<Item, Integer> itemSanity = new HashMap<>();
-	
-	public SanityManager() {
-		super(GSON, "sanity");
-	}
+	private static final String FOLDER = "sanity", EXTENSION = ".json";
+	private final AtomicInteger versions = new AtomicInteger();
+	private volatile SanityData data = SanityData.EMPTY;
 
+	/**
+	 * Hashes the contents of every file and only parses the
+	 * ones which differ from the previous snapshot. If no file
+	 * has been added, removed or changed, the previous snapshot
+	 * is kept as is. If there is no previous snapshot to compare
+	 * against, the binary cache is used instead when it was
+	 * written for the same files and registries.
+	 */
 	@Override
-	protected void apply(Map<ResourceLocation, JsonElement> map, IResourceManager manager, IProfiler profiler) {
-		this.sanityAttackMap.clear();
-		this.maxSanityRecoverTimeMap.clear();
-		this.sanityLevelMap.clear();
-		this.entitySanityLoss.clear();
-		this.itemSanity.clear();
-		map.forEach((id, element) -> {
-			if(id.getPath().equals("sanity_attack")) this.parseSanityAttack(JSONUtils.getJsonObject(element, "sanity_attack"));
-			else if(id.getPath().equals("sanity_levels")) this.parseSanityLevels(JSONUtils.getJsonObject(element, "sanity_levels"));
-			else if(id.getPath().equals("max_sanity")) this.parseMaxSanityRecovery(JSONUtils.getJsonObject(element, "max_sanity"));
-			else if(id.getPath().equals("entity_damage")) this.parseEntitySanityLoss(JSONUtils.getJsonObject(element, "entity_damage"));
-			else if(id.getPath().equals("item_sanity")) this.parseItemSanity(JSONUtils.getJsonObject(element, "item_sanity"));
-			else throw new JsonIOException("The following json file is incorrectly named or placed: " + id);
-		});
-	}
-	
-	//TODO: Handle as equation at some point
-	private void parseSanityAttack(JsonObject obj) {
-		obj.entrySet().forEach(entry -> this.sanityAttackMap.put(Integer.valueOf(entry.getKey()), entry.getValue().getAsInt()));
+	protected SanityData prepare(IResourceManager manager, IProfiler profiler) {
+		SanityData previous = this.data;
+		Map<ResourceLocation, byte[]> contents = new LinkedHashMap<>();
+		Map<ResourceLocation, HashCode> hashes = new HashMap<>();
+		Map<ResourceLocation, ResourceLocation> locations = new HashMap<>();
+		Hasher key = SanityDataCache.newKey();
+		for(ResourceLocation location : manager.getAllResourceLocations(FOLDER, name -> name.endsWith(EXTENSION))) {
+			String path = location.getPath();
+			ResourceLocation id = new ResourceLocation(location.getNamespace(), path.substring(FOLDER.length() + 1, path.length() - EXTENSION.length()));
+			try(IResource resource = manager.getResource(location); InputStream stream = resource.getInputStream()) {
+				contents.put(id, IOUtils.toByteArray(stream));
+			} catch(IOException e) {
+				LOGGER.error("Couldn't read data file {} from {}", id, location, e);
+				continue;
+			}
+			HashCode hash = Hashing.sha256().hashBytes(contents.get(id));
+			hashes.put(id, hash);
+			locations.put(id, location);
+			key.putString(id.toString(), StandardCharsets.UTF_8).putBytes(hash.asBytes());
+		}
+		HashCode cacheKey = key.hash();
+		if(previous.getFragmentIds().isEmpty()) {
+			SanityData cached = SanityDataCache.load(cacheKey, this.versions.incrementAndGet());
+			if(cached != null) {
+				LOGGER.debug("Loaded sanity data from cache");
+				return cached;
+			}
+		}
+		Map<ResourceLocation, SanityData.Fragment> fragments = new LinkedHashMap<>();
+		// A snapshot loaded from the cache does not know which files it was built from, and the attributes are compiled even without any files
+		Set<SanityData.Category> changed = previous.getFragmentIds().isEmpty() ? EnumSet.allOf(SanityData.Category.class) : EnumSet.noneOf(SanityData.Category.class);
+		for(Map.Entry<ResourceLocation, byte[]> file : contents.entrySet()) {
+			ResourceLocation id = file.getKey(), location = locations.get(id);
+			HashCode hash = hashes.get(id);
+			SanityData.Fragment fragment = previous.getFragment(id);
+			if(fragment == null || !fragment.hash.equals(hash)) {
+				JsonElement element;
+				try(Reader reader = new InputStreamReader(new ByteArrayInputStream(file.getValue()), StandardCharsets.UTF_8)) {
+					element = JSONUtils.fromJson(GSON, reader, JsonElement.class);
+				} catch(IllegalArgumentException | IOException | JsonParseException e) {
+					LOGGER.error("Couldn't parse data file {} from {}", id, location, e);
+					continue;
+				}
+				if(element == null) {
+					LOGGER.error("Couldn't load data file {} from {} as it's null or empty", id, location);
+					continue;
+				}
+				fragment = SanityData.Parser.parse(id, hash, element);
+				changed.add(fragment.category);
+			}
+			fragments.put(id, fragment);
+		}
+		for(ResourceLocation id : previous.getFragmentIds())
+			if(!fragments.containsKey(id)) changed.add(previous.getFragment(id).category);
+		if(changed.isEmpty()) return previous;
+		LOGGER.debug("Rebuilding sanity data for {}", changed);
+		SanityData data = SanityData.Parser.build(fragments, previous, changed, this.versions.incrementAndGet());
+		SanityDataCache.save(cacheKey, data);
+		return data;
 	}
-	
-	//TODO: Handle as equation at some point
-	private void parseSanityLevels(JsonObject obj) {
-		obj.entrySet().forEach(entry -> {
-			List<Integer> breakdown = new ArrayList<>();
-			JSONUtils.getJsonArray(entry.getValue(), "hearts_breakdown").forEach(element -> breakdown.add(element.getAsInt()));
-			this.sanityLevelMap.put(Integer.valueOf(entry.getKey()), breakdown);
-		});
+
+	@Override
+	protected void apply(SanityData data, IResourceManager manager, IProfiler profiler) {
+		this.data = data;
 	}
-	
-	//TODO: Handle as equation at some point
-	private void parseMaxSanityRecovery(JsonObject obj) {
-		obj.entrySet().forEach(entry -> this.maxSanityRecoverTimeMap.put(Integer.valueOf(entry.getKey()), Math.abs(entry.getValue().getAsInt()))); //TODO: Handle error properly
+
+	/**
+	 * For internal use only. Expands the tag entries of the
+	 * current snapshot once the tags have been bound, so that
+	 * looking up an entity or item never queries a tag. Should
+	 * be called on the server thread whenever the tags change.
+	 * 
+	 * @param tags The tags currently bound on the server.
+	 */
+	public void bindTags(ITagCollectionSupplier tags) {
+		this.data = this.data.bindTags(tags);
 	}
-	
-	private void parseEntitySanityLoss(JsonObject obj) {
-		if(JSONUtils.getBoolean(obj, "replace", false)) this.entitySanityLoss.clear();
-		JSONUtils.getJsonObject(obj, "entries").entrySet().forEach(entry -> {
-			EntityType<?> type = ForgeRegistries.ENTITIES.getValue(new ResourceLocation(entry.getKey()));
-			if(type == null) LOGGER.warn("The entity {} is currently not present or doesn't exist. Skipping.", entry.getKey());
-			else this.entitySanityLoss.put(type, -1 * entry.getValue().getAsInt());
-		});
+
+	/**
+	 * Gets the current snapshot of the sanity information.
+	 * Reading several values from the same snapshot makes
+	 * sure they all come from the same reload.
+	 * 
+	 * @return The current snapshot.
+	 */
+	public SanityData getData() {
+		return this.data;
 	}
 	
-	private void parseItemSanity(JsonObject obj) {
-		if(JSONUtils.getBoolean(obj, "replace", false)) this.itemSanity.clear();
-		JSONUtils.getJsonObject(obj, "entries").entrySet().forEach(entry -> {
-			Item item = ForgeRegistries.ITEMS.getValue(new ResourceLocation(entry.getKey()));
-			if(item == null) LOGGER.warn("The entity {} is currently not present or doesn't exist. Skipping.", entry.getKey());
-			else this.itemSanity.put(item, entry.getValue().getAsInt());
-		});
+	/**
+	 * Gets a number which changes every time
+	 * the sanity information is reloaded.
+	 * 
+	 * @return The version of the sanity information.
+	 */
+	public int getVersion() {
+		return this.data.getVersion();
 	}
 	
 	/**
@@ -118,7 +177,7 @@ public class SanityManager extends JsonReloadListener {
 	 * @return The attack threshold in ticks.
 	 */
 	public int getAttackTime(int sanity) {
-		return this.sanityAttackMap.getOrDefault(sanity, -1);
+		return this.data.getAttackTime(sanity);
 	}
 	
 	/**
@@ -131,7 +190,7 @@ public class SanityManager extends JsonReloadListener {
 	 * @return The maximum recovery threshold in ticks.
 	 */
 	public int getMaxSanityRecoveryTime(int lightLevel) {
-		return this.maxSanityRecoverTimeMap.getOrDefault(lightLevel, -1);
+		return this.data.getMaxSanityRecoveryTime(lightLevel);
 	}
 	
 	/**
@@ -139,16 +198,16 @@ public class SanityManager extends JsonReloadListener {
 	 * threshold for when to change the
 	 * player's sanity level. If the value
 	 * is negative, it will decrease the player
-	 * sanity.
+	 * sanity. Light levels and hearts outside
+	 * of the registered values use the closest
+	 * registered value.
 	 * 
 	 * @param lightLevel The current light level.
 	 * @param hearts The current player hearts.
 	 * @return The sanity change threshold in ticks.
-	 * 
-	 * @throws IndexOutOfBoundsException If there is no registered hearts value.
 	 */
 	public int getSanityLevelTime(int lightLevel, int hearts) {
-		return this.sanityLevelMap.getOrDefault(lightLevel, new ArrayList<>()).get(hearts);
+		return this.data.getSanityLevelTime(lightLevel, hearts);
 	}
 	
 	/**
@@ -160,7 +219,7 @@ public class SanityManager extends JsonReloadListener {
 	 * @return The amount of sanity to lose.
 	 */
 	public int getSanityLoss(EntityType<?> type) {
-		return this.entitySanityLoss.getOrDefault(type, 0);
+		return this.data.getSanityLoss(type);
 	}
 	
 	/**
@@ -173,6 +232,6 @@ public class SanityManager extends JsonReloadListener {
 	 * @return The amount of sanity to gain.
 	 */
 	public int getItemSanityEffect(Item item) {
-		return this.itemSanity.getOrDefault(item, 0);
+		return this.data.getItemSanityEffect(item);
 	}
-}
\ No newline at end of file
+}
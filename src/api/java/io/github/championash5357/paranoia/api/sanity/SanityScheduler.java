@@ -0,0 +1,320 @@
+/*
+ * Paranoia
+ * Copyright (C) 2020 ChampionAsh5357
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as 
+ * published by the Free Software Foundation version 3.0 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.championash5357.paranoia.api.sanity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import io.github.championash5357.paranoia.api.util.Stagger;
+import io.github.championash5357.paranoia.api.util.TimingWheel;
+
+/**
+ * A server wide scheduler which wakes a {@link PlayerSanity}
+ * only once one of its thresholds is due or one of its inputs
+ * has changed. Ticks which have no due players do no work.
+ * Also runs the timers of each player on their due tick and
+ * holds the players whose sanity changes are coalesced until
+ * the end of the tick.
+ * For internal use only.
+ */
+public class SanityScheduler {
+
+	/**
+	 * The maximum number of ticks a player can sleep for. Acts as
+	 * a safety net for multipliers which depend on arbitrary player
+	 * information. Only applies if such a multiplier is registered.
+	 */
+	public static final int MAX_SLEEP = 20;
+	private static final TimingWheel<PlayerSanity> WHEEL = new TimingWheel<>(0);
+	private static final SanityBatch BATCH = new SanityBatch(16);
+	private static final List<PlayerSanity> DEFERRED = new ArrayList<>();
+	private static final TimingWheel<ScheduledTimer> TIMERS = new TimingWheel<>(0);
+	private static final Consumer<ScheduledTimer> RUN = timer -> timer.owner.runTimer(timer, getCurrentTick());
+	private static final Consumer<PlayerSanity> WAKE = sanity -> {
+		if(sanity.prepareWakeup(getCurrentTick())) {
+			BATCH.add(sanity);
+			if(!batched) BATCH.process(getCurrentTick());
+		}
+	};
+	private static long currentTick;
+	private static boolean batched, coalesced;
+	private static long idleTime;
+	private static int stride = 1, maxStride = 1;
+	private static float targetTickTime;
+	private static long catchUpTicks;
+
+	/**
+	 * Gets the server tick currently being processed.
+	 * 
+	 * @return The current tick.
+	 */
+	public static long getCurrentTick() {
+		return currentTick;
+	}
+
+	/**
+	 * Gets the number of players currently waiting to be woken.
+	 * 
+	 * @return The number of scheduled players.
+	 */
+	public static int getScheduledCount() {
+		return WHEEL.size();
+	}
+
+	/**
+	 * For internal use only. Sets whether all players due on
+	 * the same tick are computed together before any of their
+	 * effects are applied. Otherwise, each player is computed
+	 * and applied as soon as it is woken.
+	 * 
+	 * @param value If players should be batched.
+	 */
+	public static void setBatched(boolean value) {
+		batched = value;
+	}
+
+	/**
+	 * For internal use only. Sets whether all sanity changes made
+	 * to a player within the same tick are reported to the callbacks
+	 * as a single change at the end of the tick.
+	 * 
+	 * @param value If sanity changes should be coalesced.
+	 */
+	public static void setCoalesced(boolean value) {
+		coalesced = value;
+	}
+
+	/**
+	 * Returns whether sanity changes are coalesced until the
+	 * end of the tick.
+	 * 
+	 * @return If sanity changes are coalesced.
+	 */
+	public static boolean isCoalesced() {
+		return coalesced;
+	}
+
+	/**
+	 * For internal use only. Sets how long a player must be idle
+	 * for before their sanity stops changing.
+	 * 
+	 * @param minutes The number of minutes, or zero to disable.
+	 */
+	public static void setIdleMinutes(int minutes) {
+		idleTime = minutes * 60000L;
+	}
+
+	/**
+	 * Gets how long a player must be idle for before their
+	 * sanity stops changing.
+	 * 
+	 * @return The idle time in milliseconds, or zero if disabled.
+	 */
+	public static long getIdleTime() {
+		return idleTime;
+	}
+
+	/**
+	 * For internal use only. Sets how much of the time a player
+	 * spent offline is caught up on once they log back in.
+	 * 
+	 * @param minutes The maximum number of minutes, or zero to disable.
+	 */
+	public static void setCatchUpMinutes(int minutes) {
+		catchUpTicks = minutes * 1200L;
+	}
+
+	/**
+	 * Gets the maximum number of ticks spent offline a player
+	 * catches up on once they log back in.
+	 * 
+	 * @return The number of ticks, or zero if disabled.
+	 */
+	public static long getCatchUpTicks() {
+		return catchUpTicks;
+	}
+
+	/**
+	 * For internal use only. Sets the tick time the scheduler
+	 * tries to stay under by waking players less often.
+	 * 
+	 * @param targetMspt The target milliseconds per tick, or zero to disable.
+	 * @param maximum The maximum number of ticks between two wakeups of a player.
+	 */
+	public static void setStrideLimits(float targetMspt, int maximum) {
+		targetTickTime = targetMspt;
+		maxStride = Math.max(1, maximum);
+		stride = Math.min(stride, maxStride);
+	}
+
+	/**
+	 * Gets the number of ticks players are currently woken on.
+	 * A stride of one wakes players on the exact tick they are due.
+	 * 
+	 * @return The current stride.
+	 */
+	public static int getStride() {
+		return stride;
+	}
+
+	/**
+	 * For internal use only. Adapts the stride to the measured
+	 * tick time once every second. Should be called once per tick.
+	 * 
+	 * @param mspt The average milliseconds per tick of the server.
+	 */
+	public static void updateStride(float mspt) {
+		if(targetTickTime <= 0 || maxStride == 1) stride = 1;
+		else if(currentTick % 20 == 0) {
+			if(mspt > targetTickTime) stride = Math.min(stride + 1, maxStride);
+			else if(mspt < targetTickTime * 0.75f) stride = Math.max(stride - 1, 1);
+		}
+	}
+
+	/**
+	 * For internal use only. Moves the tick onto the next tick
+	 * within the stride owned by the phase. Phases spread players
+	 * over the stride instead of waking all of them together.
+	 * 
+	 * @param tick The tick to align.
+	 * @param phase The phase of the player, usually its entity id.
+	 * @return The aligned tick.
+	 */
+	public static long alignToStride(long tick, int phase) {
+		return Stagger.align(tick, phase, stride);
+	}
+
+	/**
+	 * For internal use only. Moves the tick onto the next tick
+	 * owned by the phase within either the stride or the window
+	 * of the {@link Stagger}, whichever is larger. Used for work
+	 * which is not tied to a threshold, such as checking whether
+	 * the inputs of a player have changed.
+	 * 
+	 * @param tick The tick to align.
+	 * @param phase The phase of the player, usually its entity id.
+	 * @return The aligned tick.
+	 */
+	public static long alignToWindow(long tick, int phase) {
+		return Stagger.align(tick, phase, Math.max(stride, Stagger.getWindow()));
+	}
+
+	/**
+	 * For internal use only. Checks whether the current tick is
+	 * owned by the phase within either the stride or the window
+	 * of the {@link Stagger}, whichever is larger.
+	 * 
+	 * @param phase The phase of the player, usually its entity id.
+	 * @return If the player should be handled on this tick.
+	 */
+	public static boolean isOnWindow(int phase) {
+		return Stagger.isTurn(currentTick, phase, Math.max(stride, Stagger.getWindow()));
+	}
+
+	/**
+	 * For internal use only. Sets the minimum number of players
+	 * within a batch before their tick information is computed
+	 * on the common pool. Effects are still applied on the server
+	 * thread in the order the players were woken. Only used when
+	 * players are batched.
+	 * 
+	 * @param threshold The minimum batch size, or zero to disable.
+	 */
+	public static void setParallelThreshold(int threshold) {
+		SanityBatch.setParallelThreshold(threshold);
+	}
+
+	/**
+	 * For internal use only. Schedules the sanity instance
+	 * to be woken at the end of the specified tick.
+	 * 
+	 * @param entry The wheel entry of the sanity instance.
+	 * @param dueTick The tick to wake the instance on.
+	 */
+	static void schedule(TimingWheel.Entry<PlayerSanity> entry, long dueTick) {
+		WHEEL.schedule(entry, Math.max(dueTick, currentTick));
+	}
+
+	/**
+	 * For internal use only. Schedules the timer of a
+	 * player to run at the end of the specified tick.
+	 * 
+	 * @param entry The wheel entry of the timer.
+	 * @param dueTick The tick to run the timer on.
+	 */
+	static void scheduleTimer(TimingWheel.Entry<ScheduledTimer> entry, long dueTick) {
+		TIMERS.schedule(entry, Math.max(dueTick, currentTick));
+	}
+
+	/**
+	 * For internal use only. Removes the timer of a
+	 * player from the scheduler.
+	 * 
+	 * @param entry The wheel entry of the timer.
+	 */
+	static void cancelTimer(TimingWheel.Entry<ScheduledTimer> entry) {
+		TIMERS.cancel(entry);
+	}
+
+	/**
+	 * For internal use only. Informs the callbacks of the sanity
+	 * instance of its changes at the end of the current tick.
+	 * 
+	 * @param sanity The sanity instance.
+	 */
+	static void defer(PlayerSanity sanity) {
+		DEFERRED.add(sanity);
+	}
+
+	/**
+	 * For internal use only. Removes the sanity instance
+	 * from the scheduler.
+	 * 
+	 * @param entry The wheel entry of the sanity instance.
+	 */
+	static void cancel(TimingWheel.Entry<PlayerSanity> entry) {
+		WHEEL.cancel(entry);
+	}
+
+	/**
+	 * For internal use only. Wakes every player which is due
+	 * on the current tick and moves onto the next one. Should
+	 * be called at the end of every server tick.
+	 */
+	public static void tick() {
+		WHEEL.advance(currentTick, WAKE);
+		BATCH.process(currentTick);
+		TIMERS.advance(currentTick, RUN);
+		for(int i = 0; i < DEFERRED.size(); ++i) DEFERRED.get(i).flushSanityInformation();
+		DEFERRED.clear();
+		currentTick++;
+	}
+
+	/**
+	 * For internal use only. Removes all scheduled players.
+	 * Should be called once the server has stopped.
+	 */
+	public static void reset() {
+		currentTick = 0;
+		stride = 1;
+		WHEEL.clear(0);
+		TIMERS.clear(0);
+		DEFERRED.clear();
+	}
+}
@@ -0,0 +1,45 @@
+/*
+ * Paranoia
+ * Copyright (C) 2020 ChampionAsh5357
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as 
+ * published by the Free Software Foundation version 3.0 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.championash5357.paranoia.api.sanity;
+
+import io.github.championash5357.paranoia.api.util.ITickable;
+import io.github.championash5357.paranoia.api.util.Timer;
+import io.github.championash5357.paranoia.api.util.TimingWheel;
+import net.minecraft.entity.player.ServerPlayerEntity;
+
+/**
+ * Holds the state of a {@link Timer} for a single player.
+ * Stands in for the timer within the temporary tickables
+ * and is run by the {@link SanityScheduler} on its due tick
+ * rather than being ticked. For internal use only.
+ */
+final class ScheduledTimer implements ITickable {
+
+	final PlayerSanity owner;
+	final Timer timer;
+	final TimingWheel.Entry<ScheduledTimer> entry = new TimingWheel.Entry<>(this);
+	boolean released;
+
+	ScheduledTimer(PlayerSanity owner, Timer timer) {
+		this.owner = owner;
+		this.timer = timer;
+	}
+
+	@Override
+	public void tick(ServerPlayerEntity player, ISanity sanity) {}
+}
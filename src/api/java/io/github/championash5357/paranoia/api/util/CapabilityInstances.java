@@ -1,34 +1,56 @@
-/*
- * Paranoia
- * Copyright (C) 2020 ChampionAsh5357
- * 
- * This program is free software: you can redistribute it and/or modify
- * it under the terms of the GNU Lesser General Public License as 
- * published by the Free Software Foundation version 3.0 of the License.
- * 
- * This program is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU Lesser General Public License for more details.
- * 
- * You should have received a copy of the GNU Lesser General Public License
- * along with this program.  If not, see <https://www.gnu.org/licenses/>.
- */
-
-package io.github.championash5357.paranoia.api.util;
-
-import io.github.championash5357.paranoia.api.sanity.ISanity;
-import net.minecraftforge.common.capabilities.Capability;
-import net.minecraftforge.common.capabilities.CapabilityInject;
-
-/**
- * Holds all capabilities used by this mod.
- */
-public class CapabilityInstances {
-
-	/**
-	 * The sanity capability.
-	 */
-	@CapabilityInject(ISanity.class)
-	public static final Capability<ISanity> SANITY_CAPABILITY = null;
-}
+/*
+ * Paranoia
+ * Copyright (C) 2020 ChampionAsh5357
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as 
+ * published by the Free Software Foundation version 3.0 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.championash5357.paranoia.api.util;
+
+import javax.annotation.Nullable;
+
+import io.github.championash5357.paranoia.api.sanity.ISanity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.capabilities.CapabilityInject;
+
+/**
+ * Holds all capabilities used by this mod.
+ */
+public class CapabilityInstances {
+
+	/**
+	 * The sanity capability.
+	 */
+	@CapabilityInject(ISanity.class)
+	public static final Capability<ISanity> SANITY_CAPABILITY = null;
+
+	/**
+	 * Gets the sanity instance of the player. The instance is held
+	 * on the player itself, so this avoids looking up the capability
+	 * except for the first access after the capability has been
+	 * attached or invalidated.
+	 * 
+	 * @param player The player.
+	 * @return The sanity instance, or null if the player has none.
+	 */
+	@Nullable
+	public static ISanity getSanity(PlayerEntity player) {
+		ISanity sanity = ((ISanityHolder) player).getParanoiaSanity();
+		if(sanity == null) {
+			sanity = player.getCapability(SANITY_CAPABILITY).orElse(null);
+			((ISanityHolder) player).setParanoiaSanity(sanity);
+		}
+		return sanity;
+	}
+}
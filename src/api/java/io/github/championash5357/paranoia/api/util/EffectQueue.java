@@ -0,0 +1,106 @@
+/*
+ * Paranoia
+ * Copyright (C) 2020 ChampionAsh5357
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as 
+ * published by the Free Software Foundation version 3.0 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.championash5357.paranoia.api.util;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * A work queue for the side effects of callbacks and tickables
+ * which is limited by a time budget per tick. Effects are run
+ * immediately while the budget lasts. Once it has been used up,
+ * effects are deferred to a later tick or dropped depending on
+ * their {@link Priority}. Should only be used on the server thread.
+ */
+public class EffectQueue {
+
+	private static final int MAX_DEFERRED = 1024;
+	private static final Deque<Runnable> DEFERRED = new ArrayDeque<>();
+	private static long budget, spent;
+
+	/**
+	 * For internal use only. Sets the time effects can take
+	 * up within a single tick.
+	 * 
+	 * @param micros The budget in microseconds, or zero for no limit.
+	 */
+	public static void setBudget(long micros) {
+		budget = micros * 1000L;
+	}
+
+	/**
+	 * Submits an effect to run within the budget of the current tick.
+	 * 
+	 * @param priority The priority of the effect.
+	 * @param effect The effect to run.
+	 */
+	public static void submit(Priority priority, Runnable effect) {
+		if(budget <= 0) effect.run();
+		else if(priority == Priority.CRITICAL || spent < budget) run(effect);
+		else if(priority == Priority.NORMAL) {
+			if(DEFERRED.size() == MAX_DEFERRED) DEFERRED.pollFirst();
+			DEFERRED.addLast(effect);
+		}
+	}
+
+	/**
+	 * For internal use only. Runs as many deferred effects as fit
+	 * within what is left of the budget of the current tick and
+	 * then starts the budget of the next tick. Should be called
+	 * at the end of every server tick.
+	 */
+	public static void tick() {
+		while(!DEFERRED.isEmpty() && (budget <= 0 || spent < budget)) run(DEFERRED.pollFirst());
+		spent = 0;
+	}
+
+	/**
+	 * For internal use only. Removes all deferred effects.
+	 * Should be called once the server has stopped.
+	 */
+	public static void reset() {
+		DEFERRED.clear();
+		spent = 0;
+	}
+
+	private static void run(Runnable effect) {
+		long start = System.nanoTime();
+		effect.run();
+		spent += System.nanoTime() - start;
+	}
+
+	/**
+	 * How an effect is handled once the budget has been used up.
+	 */
+	public enum Priority {
+		/**
+		 * Always runs immediately, such as attribute changes or damage.
+		 * Still uses up the budget of the tick.
+		 */
+		CRITICAL,
+		/**
+		 * Deferred to a later tick, such as dropping items or teleports.
+		 * Once too many effects are deferred, the oldest one is dropped.
+		 */
+		NORMAL,
+		/**
+		 * Dropped, such as ghost blocks, sounds or door toggles.
+		 */
+		COSMETIC
+	}
+}
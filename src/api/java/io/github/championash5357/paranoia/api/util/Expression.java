@@ -0,0 +1,305 @@
+/*
+ * Paranoia
+ * Copyright (C) 2020 ChampionAsh5357
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as 
+ * published by the Free Software Foundation version 3.0 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.championash5357.paranoia.api.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+import com.google.gson.JsonSyntaxException;
+
+/**
+ * An arithmetic expression over a fixed set of named variables.
+ * The expression is parsed once into a tree of nodes with all
+ * constant subtrees folded, so evaluating it never interprets
+ * the source again. Supports the operators {@code + - * / % ^},
+ * comparisons and {@code && || !} (true being one and false zero),
+ * {@code condition ? a : b} and the functions {@code min}, {@code max},
+ * {@code abs}, {@code floor}, {@code ceil}, {@code round}, {@code sqrt},
+ * {@code exp}, {@code log}, {@code pow} and {@code clamp}.
+ */
+public final class Expression {
+
+	private final String source;
+	private final Node root;
+	private final int variables;
+
+	private Expression(String source, Node root, int variables) {
+		this.source = source;
+		this.root = root;
+		this.variables = variables;
+	}
+
+	/**
+	 * Creates an expression which always evaluates to the value.
+	 * 
+	 * @param value The constant value.
+	 * @return The constant expression.
+	 */
+	public static Expression constant(double value) {
+		return new Expression(String.valueOf(value), new Constant(value), 0);
+	}
+
+	/**
+	 * Parses the expression.
+	 * 
+	 * @param source The expression to parse.
+	 * @param variables The names of the variables in the order their values are passed to {@link #evaluate(double...)}.
+	 * @return The parsed expression.
+	 * 
+	 * @throws JsonSyntaxException If the expression is malformed or uses an unknown variable or function.
+	 */
+	public static Expression parse(String source, String... variables) {
+		Parser parser = new Parser(source, variables);
+		Node root = parser.parseTernary();
+		parser.skipWhitespace();
+		if(parser.pos != source.length()) throw parser.error("Unexpected character '" + source.charAt(parser.pos) + "'");
+		return new Expression(source, root, variables.length);
+	}
+
+	/**
+	 * Evaluates the expression.
+	 * 
+	 * @param values The values of the variables in the order they were named when parsed.
+	 * @return The result.
+	 */
+	public double evaluate(double... values) {
+		if(values.length < this.variables) throw new IllegalArgumentException("Expected " + this.variables + " variables but got " + values.length);
+		return this.root.evaluate(values);
+	}
+
+	/**
+	 * Returns whether the expression does not depend on any variable.
+	 * 
+	 * @return If the expression is constant.
+	 */
+	public boolean isConstant() {
+		return this.root instanceof Constant;
+	}
+
+	@Override
+	public String toString() {
+		return this.source;
+	}
+
+	private interface Node {
+		double evaluate(double[] values);
+	}
+
+	private static final class Constant implements Node {
+
+		private final double value;
+
+		Constant(double value) {
+			this.value = value;
+		}
+
+		@Override
+		public double evaluate(double[] values) {
+			return this.value;
+		}
+	}
+
+	private static Node unary(Node operand, DoubleUnaryOperator operator) {
+		if(operand instanceof Constant) return new Constant(operator.applyAsDouble(((Constant) operand).value));
+		return values -> operator.applyAsDouble(operand.evaluate(values));
+	}
+
+	private static Node binary(Node left, Node right, DoubleBinaryOperator operator) {
+		if(left instanceof Constant && right instanceof Constant) return new Constant(operator.applyAsDouble(((Constant) left).value, ((Constant) right).value));
+		return values -> operator.applyAsDouble(left.evaluate(values), right.evaluate(values));
+	}
+
+	private static double bool(boolean value) {
+		return value ? 1 : 0;
+	}
+
+	private static final class Parser {
+
+		private final String source;
+		private final String[] variables;
+		private int pos;
+
+		Parser(String source, String[] variables) {
+			this.source = source;
+			this.variables = variables;
+		}
+
+		Node parseTernary() {
+			Node condition = this.parseOr();
+			if(!this.consume("?")) return condition;
+			Node left = this.parseTernary();
+			this.expect(":");
+			Node right = this.parseTernary();
+			if(condition instanceof Constant) return ((Constant) condition).value != 0 ? left : right;
+			return values -> condition.evaluate(values) != 0 ? left.evaluate(values) : right.evaluate(values);
+		}
+
+		private Node parseOr() {
+			Node node = this.parseAnd();
+			while(this.consume("||")) node = binary(node, this.parseAnd(), (a, b) -> bool(a != 0 || b != 0));
+			return node;
+		}
+
+		private Node parseAnd() {
+			Node node = this.parseComparison();
+			while(this.consume("&&")) node = binary(node, this.parseComparison(), (a, b) -> bool(a != 0 && b != 0));
+			return node;
+		}
+
+		private Node parseComparison() {
+			Node node = this.parseAdditive();
+			if(this.consume("<=")) return binary(node, this.parseAdditive(), (a, b) -> bool(a <= b));
+			if(this.consume(">=")) return binary(node, this.parseAdditive(), (a, b) -> bool(a >= b));
+			if(this.consume("==")) return binary(node, this.parseAdditive(), (a, b) -> bool(a == b));
+			if(this.consume("!=")) return binary(node, this.parseAdditive(), (a, b) -> bool(a != b));
+			if(this.consume("<")) return binary(node, this.parseAdditive(), (a, b) -> bool(a < b));
+			if(this.consume(">")) return binary(node, this.parseAdditive(), (a, b) -> bool(a > b));
+			return node;
+		}
+
+		private Node parseAdditive() {
+			Node node = this.parseMultiplicative();
+			while(true) {
+				if(this.consume("+")) node = binary(node, this.parseMultiplicative(), (a, b) -> a + b);
+				else if(this.consume("-")) node = binary(node, this.parseMultiplicative(), (a, b) -> a - b);
+				else return node;
+			}
+		}
+
+		private Node parseMultiplicative() {
+			Node node = this.parseUnary();
+			while(true) {
+				if(this.consume("*")) node = binary(node, this.parseUnary(), (a, b) -> a * b);
+				else if(this.consume("/")) node = binary(node, this.parseUnary(), (a, b) -> a / b);
+				else if(this.consume("%")) node = binary(node, this.parseUnary(), (a, b) -> a % b);
+				else return node;
+			}
+		}
+
+		private Node parseUnary() {
+			if(this.consume("-")) return unary(this.parseUnary(), a -> -a);
+			if(this.consume("+")) return this.parseUnary();
+			if(this.peek('!') && !this.peek("!=")) {
+				this.pos++;
+				return unary(this.parseUnary(), a -> bool(a == 0));
+			}
+			return this.parsePower();
+		}
+
+		private Node parsePower() {
+			Node node = this.parsePrimary();
+			if(this.consume("^")) return binary(node, this.parseUnary(), Math::pow);
+			return node;
+		}
+
+		private Node parsePrimary() {
+			this.skipWhitespace();
+			if(this.consume("(")) {
+				Node node = this.parseTernary();
+				this.expect(")");
+				return node;
+			}
+			int start = this.pos;
+			if(this.pos < this.source.length() && (Character.isDigit(this.source.charAt(this.pos)) || this.source.charAt(this.pos) == '.')) {
+				while(this.pos < this.source.length() && (Character.isDigit(this.source.charAt(this.pos)) || this.source.charAt(this.pos) == '.')) this.pos++;
+				try {
+					return new Constant(Double.parseDouble(this.source.substring(start, this.pos)));
+				} catch(NumberFormatException e) {
+					throw this.error("Invalid number '" + this.source.substring(start, this.pos) + "'");
+				}
+			}
+			while(this.pos < this.source.length() && (Character.isLetterOrDigit(this.source.charAt(this.pos)) || this.source.charAt(this.pos) == '_')) this.pos++;
+			if(start == this.pos) throw this.error(this.pos < this.source.length() ? "Unexpected character '" + this.source.charAt(this.pos) + "'" : "Unexpected end of expression");
+			String name = this.source.substring(start, this.pos);
+			if(this.consume("(")) return this.parseFunction(name);
+			for(int i = 0; i < this.variables.length; ++i) {
+				if(this.variables[i].equals(name)) {
+					int index = i;
+					return values -> values[index];
+				}
+			}
+			throw this.error("Unknown variable '" + name + "'");
+		}
+
+		private Node parseFunction(String name) {
+			List<Node> args = new ArrayList<>();
+			if(!this.consume(")")) {
+				do args.add(this.parseTernary());
+				while(this.consume(","));
+				this.expect(")");
+			}
+			switch(name) {
+			case "abs": return unary(this.arg(name, args, 1, 0), Math::abs);
+			case "floor": return unary(this.arg(name, args, 1, 0), Math::floor);
+			case "ceil": return unary(this.arg(name, args, 1, 0), Math::ceil);
+			case "round": return unary(this.arg(name, args, 1, 0), a -> Math.round(a));
+			case "sqrt": return unary(this.arg(name, args, 1, 0), Math::sqrt);
+			case "exp": return unary(this.arg(name, args, 1, 0), Math::exp);
+			case "log": return unary(this.arg(name, args, 1, 0), Math::log);
+			case "pow": return binary(this.arg(name, args, 2, 0), args.get(1), Math::pow);
+			case "clamp": return binary(binary(this.arg(name, args, 3, 0), args.get(1), Math::max), args.get(2), Math::min);
+			case "min":
+			case "max":
+				Node node = this.arg(name, args, -1, 0);
+				for(int i = 1; i < args.size(); ++i) node = binary(node, args.get(i), name.equals("min") ? Math::min : Math::max);
+				return node;
+			default:
+				throw this.error("Unknown function '" + name + "'");
+			}
+		}
+
+		/**
+		 * Checks the number of arguments of a function and returns
+		 * the requested one. A count of -1 accepts one or more.
+		 */
+		private Node arg(String name, List<Node> args, int count, int index) {
+			if(count == -1 ? args.isEmpty() : args.size() != count) throw this.error("Function '" + name + "' expects " + (count == -1 ? "at least 1" : count) + " arguments but got " + args.size());
+			return args.get(index);
+		}
+
+		void skipWhitespace() {
+			while(this.pos < this.source.length() && Character.isWhitespace(this.source.charAt(this.pos))) this.pos++;
+		}
+
+		private boolean peek(char c) {
+			this.skipWhitespace();
+			return this.pos < this.source.length() && this.source.charAt(this.pos) == c;
+		}
+
+		private boolean peek(String token) {
+			this.skipWhitespace();
+			return this.source.startsWith(token, this.pos);
+		}
+
+		private boolean consume(String token) {
+			if(!this.peek(token)) return false;
+			this.pos += token.length();
+			return true;
+		}
+
+		private void expect(String token) {
+			if(!this.consume(token)) throw this.error("Expected '" + token + "'");
+		}
+
+		JsonSyntaxException error(String message) {
+			return new JsonSyntaxException(message + " at position " + this.pos + " in expression: " + this.source);
+		}
+	}
+}
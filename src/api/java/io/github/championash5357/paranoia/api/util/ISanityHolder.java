@@ -0,0 +1,46 @@
+/*
+ * Paranoia
+ * Copyright (C) 2020 ChampionAsh5357
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as 
+ * published by the Free Software Foundation version 3.0 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.championash5357.paranoia.api.util;
+
+import javax.annotation.Nullable;
+
+import io.github.championash5357.paranoia.api.sanity.ISanity;
+
+/**
+ * For internal use only. Implemented on every player to hold
+ * their sanity instance directly instead of looking it up from
+ * the capability each time. Use {@link CapabilityInstances#getSanity(net.minecraft.entity.player.PlayerEntity)}
+ * to access it.
+ */
+public interface ISanityHolder {
+
+	/**
+	 * Gets the cached sanity instance.
+	 * 
+	 * @return The sanity instance, or null if not cached.
+	 */
+	@Nullable
+	ISanity getParanoiaSanity();
+
+	/**
+	 * Sets the cached sanity instance.
+	 * 
+	 * @param sanity The sanity instance, or null to clear the cache.
+	 */
+	void setParanoiaSanity(@Nullable ISanity sanity);
+}
@@ -0,0 +1,44 @@
+/*
+ * Paranoia
+ * Copyright (C) 2020 ChampionAsh5357
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as 
+ * published by the Free Software Foundation version 3.0 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.championash5357.paranoia.api.util;
+
+import io.github.championash5357.paranoia.api.sanity.ISanity;
+import net.minecraft.entity.player.ServerPlayerEntity;
+
+/**
+ * An {@link ITickable} which opts into being staggered by
+ * {@link Stagger}. Instead of every tick, it is only called
+ * on the ticks owned by the bucket of the player along with
+ * the number of ticks which have passed since the last call.
+ */
+public interface IStaggeredTickable extends ITickable {
+
+	/**
+	 * A tick method.
+	 * 
+	 * @param player The server player
+	 * @param sanity The sanity instance
+	 * @param ticks The number of ticks since the last call
+	 */
+	void tick(ServerPlayerEntity player, ISanity sanity, int ticks);
+
+	@Override
+	default void tick(ServerPlayerEntity player, ISanity sanity) {
+		this.tick(player, sanity, 1);
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Paranoia
+ * Copyright (C) 2020 ChampionAsh5357
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as 
+ * published by the Free Software Foundation version 3.0 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.championash5357.paranoia.api.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.minecraft.util.ResourceLocation;
+
+/**
+ * Interns the keys of dimensions and biomes to sequential
+ * integers. Interned ids never change for the lifetime of
+ * the game, so tables indexed by them stay valid across
+ * reloads.
+ */
+public class ScopeIds {
+
+	/**
+	 * The interned ids of dimension keys.
+	 */
+	public static final ScopeIds DIMENSIONS = new ScopeIds();
+	/**
+	 * The interned ids of biome keys.
+	 */
+	public static final ScopeIds BIOMES = new ScopeIds();
+	private final Map<ResourceLocation, Integer> ids = new ConcurrentHashMap<>();
+	private final List<ResourceLocation> locations = new ArrayList<>();
+
+	private ScopeIds() {}
+
+	/**
+	 * Gets the interned id of the location, creating a
+	 * new one if the location has not been seen before.
+	 * 
+	 * @param location The key of the dimension or biome.
+	 * @return The interned id.
+	 */
+	public int intern(ResourceLocation location) {
+		Integer id = this.ids.get(location);
+		if(id != null) return id;
+		synchronized(this.locations) {
+			return this.ids.computeIfAbsent(location, loc -> {
+				this.locations.add(loc);
+				return this.locations.size() - 1;
+			});
+		}
+	}
+
+	/**
+	 * Gets the location the id was interned from.
+	 * 
+	 * @param id The interned id.
+	 * @return The key of the dimension or biome.
+	 */
+	public ResourceLocation getLocation(int id) {
+		synchronized(this.locations) {
+			return this.locations.get(id);
+		}
+	}
+}
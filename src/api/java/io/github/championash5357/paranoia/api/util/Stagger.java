@@ -0,0 +1,99 @@
+/*
+ * Paranoia
+ * Copyright (C) 2020 ChampionAsh5357
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as 
+ * published by the Free Software Foundation version 3.0 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.championash5357.paranoia.api.util;
+
+import net.minecraft.entity.Entity;
+
+/**
+ * Spreads periodic per player work over a window of ticks.
+ * Each entity is placed in a bucket based on its id and only
+ * does its work on the ticks owned by that bucket. Work which
+ * would otherwise land on the same tick for many players is
+ * then handled over the entire window instead.
+ */
+public class Stagger {
+
+	private static int window = 1;
+
+	/**
+	 * For internal use only. Sets the number of ticks work
+	 * is spread over.
+	 * 
+	 * @param ticks The size of the window. A value of one disables staggering.
+	 */
+	public static void setWindow(int ticks) {
+		window = Math.max(1, ticks);
+	}
+
+	/**
+	 * Gets the number of ticks work is spread over.
+	 * 
+	 * @return The size of the window.
+	 */
+	public static int getWindow() {
+		return window;
+	}
+
+	/**
+	 * Gets the first tick at or after the specified tick which
+	 * is owned by the bucket of the entity.
+	 * 
+	 * @param tick The earliest tick the work can be done on.
+	 * @param entity The entity the work is done for.
+	 * @return The tick to do the work on.
+	 */
+	public static long align(long tick, Entity entity) {
+		return align(tick, entity.getEntityId(), window);
+	}
+
+	/**
+	 * Gets the first tick at or after the specified tick which
+	 * is owned by the bucket within the window.
+	 * 
+	 * @param tick The earliest tick the work can be done on.
+	 * @param bucket The bucket, usually an entity id.
+	 * @param window The size of the window.
+	 * @return The tick to do the work on.
+	 */
+	public static long align(long tick, int bucket, int window) {
+		return window <= 1 ? tick : tick + Math.floorMod(bucket - tick, (long) window);
+	}
+
+	/**
+	 * Checks whether the tick is owned by the bucket of the entity.
+	 * 
+	 * @param tick The current tick.
+	 * @param entity The entity the work is done for.
+	 * @return If the work should be done on this tick.
+	 */
+	public static boolean isTurn(long tick, Entity entity) {
+		return isTurn(tick, entity.getEntityId(), window);
+	}
+
+	/**
+	 * Checks whether the tick is owned by the bucket within the window.
+	 * 
+	 * @param tick The current tick.
+	 * @param bucket The bucket, usually an entity id.
+	 * @param window The size of the window.
+	 * @return If the work should be done on this tick.
+	 */
+	public static boolean isTurn(long tick, int bucket, int window) {
+		return window <= 1 || Math.floorMod(tick - bucket, (long) window) == 0;
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * Paranoia
+ * Copyright (C) 2020 ChampionAsh5357
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as 
+ * published by the Free Software Foundation version 3.0 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.championash5357.paranoia.api.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.github.championash5357.paranoia.api.sanity.ISanity;
+import net.minecraft.util.ResourceLocation;
+
+/**
+ * Interns the ids of temporary tickables to sequential
+ * integers. An interned id can be passed to
+ * {@link ISanity#addTemporaryTickable(int, ITickable)} and
+ * {@link ISanity#removeTemporaryTickable(int)} to avoid
+ * looking up the location on every call.
+ */
+public class TickableIds {
+
+	private static final Map<ResourceLocation, Integer> IDS = new ConcurrentHashMap<>();
+	private static final List<ResourceLocation> LOCATIONS = new ArrayList<>();
+
+	/**
+	 * Gets the interned id of the location, creating a
+	 * new one if the location has not been seen before.
+	 * 
+	 * @param location The id of the tickable.
+	 * @return The interned id.
+	 */
+	public static int intern(ResourceLocation location) {
+		Integer id = IDS.get(location);
+		if(id != null) return id;
+		synchronized(LOCATIONS) {
+			return IDS.computeIfAbsent(location, loc -> {
+				LOCATIONS.add(loc);
+				return LOCATIONS.size() - 1;
+			});
+		}
+	}
+
+	/**
+	 * Gets the location the id was interned from.
+	 * 
+	 * @param id The interned id.
+	 * @return The id of the tickable.
+	 */
+	public static ResourceLocation getLocation(int id) {
+		synchronized(LOCATIONS) {
+			return LOCATIONS.get(id);
+		}
+	}
+}
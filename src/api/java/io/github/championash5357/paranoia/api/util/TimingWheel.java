@@ -0,0 +1,266 @@
+/*
+ * Paranoia
+ * Copyright (C) 2020 ChampionAsh5357
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as 
+ * published by the Free Software Foundation version 3.0 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.championash5357.paranoia.api.util;
+
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timing wheel keyed by absolute tick.
+ * Scheduling, rescheduling and cancelling are constant
+ * time and advancing the wheel only touches the entries
+ * which are due. Entries are intrusive so that a holder
+ * can reuse the same {@link Entry} for its lifetime without
+ * allocating.
+ * 
+ * @param <T> The type of value held by the wheel.
+ */
+public class TimingWheel<T> {
+
+	private static final int SLOT_BITS = 6, SLOTS = 1 << SLOT_BITS, SLOT_MASK = SLOTS - 1, LEVELS = 4;
+	private final Entry<T>[][] wheels;
+	private final Entry<T> overdue = new Entry<>(null), firing = new Entry<>(null);
+	private long currentTick;
+	private int size;
+
+	/**
+	 * A timing wheel constructor.
+	 * 
+	 * @param currentTick The tick the wheel starts at.
+	 */
+	@SuppressWarnings("unchecked")
+	public TimingWheel(long currentTick) {
+		this.currentTick = currentTick;
+		this.wheels = new Entry[LEVELS][SLOTS];
+		for(int level = 0; level < LEVELS; ++level)
+			for(int slot = 0; slot < SLOTS; ++slot) this.wheels[level][slot] = new Entry<>(null);
+	}
+
+	/**
+	 * Gets the last tick that was processed by the wheel.
+	 * 
+	 * @return The current tick.
+	 */
+	public long getCurrentTick() {
+		return this.currentTick;
+	}
+
+	/**
+	 * Gets the number of entries currently scheduled.
+	 * 
+	 * @return The number of scheduled entries.
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Schedules or reschedules the entry to be fired on the
+	 * specified tick. Entries which are due on or before the
+	 * current tick are fired on the next call to {@link #advance(long, Consumer)}.
+	 * 
+	 * @param entry The entry to schedule.
+	 * @param dueTick The tick the entry should fire on.
+	 */
+	public void schedule(Entry<T> entry, long dueTick) {
+		if(entry.isScheduled()) this.unlink(entry);
+		else this.size++;
+		entry.dueTick = dueTick;
+		this.insert(entry);
+	}
+
+	/**
+	 * Removes the entry from the wheel if it is scheduled.
+	 * 
+	 * @param entry The entry to cancel.
+	 * @return If the entry was scheduled.
+	 */
+	public boolean cancel(Entry<T> entry) {
+		if(!entry.isScheduled()) return false;
+		this.unlink(entry);
+		this.size--;
+		return true;
+	}
+
+	/**
+	 * Advances the wheel up to and including the specified
+	 * tick, firing every entry which becomes due on the way.
+	 * An entry is unscheduled before it is fired, so the
+	 * consumer is free to schedule it again. The consumer
+	 * may also schedule or cancel any other entry, including
+	 * one which is due on the same tick.
+	 * 
+	 * @param tick The tick to advance to.
+	 * @param consumer A consumer of the values which are due.
+	 */
+	public void advance(long tick, Consumer<T> consumer) {
+		this.fire(this.overdue, consumer);
+		while(this.currentTick < tick) {
+			this.currentTick++;
+			for(int level = LEVELS - 1; level > 0; --level)
+				if((this.currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) this.cascade(this.wheels[level][(int) (this.currentTick >>> (SLOT_BITS * level)) & SLOT_MASK]);
+			this.fire(this.wheels[0][(int) this.currentTick & SLOT_MASK], consumer);
+			this.fire(this.overdue, consumer);
+		}
+	}
+
+	/**
+	 * Removes all entries from the wheel and resets
+	 * the current tick.
+	 * 
+	 * @param currentTick The tick the wheel restarts at.
+	 */
+	public void clear(long currentTick) {
+		this.clear(this.overdue);
+		this.clear(this.firing);
+		for(Entry<T>[] wheel : this.wheels)
+			for(Entry<T> head : wheel) this.clear(head);
+		this.size = 0;
+		this.currentTick = currentTick;
+	}
+
+	private void insert(Entry<T> entry) {
+		long delta = entry.dueTick - this.currentTick;
+		if(delta <= 0) {
+			this.link(this.overdue, entry);
+			return;
+		}
+		for(int level = 0; level < LEVELS; ++level) {
+			if(delta < 1L << (SLOT_BITS * (level + 1)) || level == LEVELS - 1) {
+				long due = level == LEVELS - 1 ? Math.min(entry.dueTick, this.currentTick + (1L << (SLOT_BITS * LEVELS)) - 1) : entry.dueTick;
+				this.link(this.wheels[level][(int) (due >>> (SLOT_BITS * level)) & SLOT_MASK], entry);
+				return;
+			}
+		}
+	}
+
+	private void cascade(Entry<T> head) {
+		Entry<T> entry = this.detach(head);
+		while(entry != null) {
+			Entry<T> next = entry.next;
+			entry.next = entry.prev = null;
+			this.insert(entry);
+			entry = next;
+		}
+	}
+
+	/**
+	 * Moves the slot onto the firing list and pops one entry
+	 * at a time. Entries still waiting on the list remain
+	 * scheduled, so a consumer cancelling or rescheduling one
+	 * of them unlinks it from the list before it is fired.
+	 */
+	private void fire(Entry<T> head, Consumer<T> consumer) {
+		if(head.next == head) return;
+		this.firing.next = head.next;
+		this.firing.prev = head.prev;
+		head.next.prev = this.firing;
+		head.prev.next = this.firing;
+		head.next = head.prev = head;
+		while(this.firing.next != this.firing) {
+			Entry<T> entry = this.firing.next;
+			this.unlink(entry);
+			if(entry.dueTick <= this.currentTick) {
+				this.size--;
+				consumer.accept(entry.value);
+			} else this.insert(entry);
+		}
+	}
+
+	private void clear(Entry<T> head) {
+		Entry<T> entry = this.detach(head);
+		while(entry != null) {
+			Entry<T> next = entry.next;
+			entry.next = entry.prev = null;
+			entry = next;
+		}
+	}
+
+	/**
+	 * Unlinks the whole slot from its head and returns the
+	 * first entry of a null terminated chain.
+	 */
+	private Entry<T> detach(Entry<T> head) {
+		if(head.next == head) return null;
+		Entry<T> first = head.next;
+		head.prev.next = null;
+		head.next = head.prev = head;
+		return first;
+	}
+
+	private void link(Entry<T> head, Entry<T> entry) {
+		entry.prev = head.prev;
+		entry.next = head;
+		head.prev.next = entry;
+		head.prev = entry;
+	}
+
+	private void unlink(Entry<T> entry) {
+		if(entry.prev != null) entry.prev.next = entry.next;
+		if(entry.next != null) entry.next.prev = entry.prev;
+		entry.next = entry.prev = null;
+	}
+
+	/**
+	 * A schedulable node within a {@link TimingWheel}.
+	 * 
+	 * @param <T> The type of value held by the entry.
+	 */
+	public static class Entry<T> {
+
+		private final T value;
+		private long dueTick;
+		private Entry<T> prev, next;
+
+		/**
+		 * An entry constructor.
+		 * 
+		 * @param value The value passed to the consumer once due.
+		 */
+		public Entry(T value) {
+			this.value = value;
+			this.prev = this.next = this;
+		}
+
+		/**
+		 * Gets the value held by the entry.
+		 * 
+		 * @return The held value.
+		 */
+		public T getValue() {
+			return this.value;
+		}
+
+		/**
+		 * Gets the tick the entry was last scheduled for.
+		 * 
+		 * @return The due tick.
+		 */
+		public long getDueTick() {
+			return this.dueTick;
+		}
+
+		/**
+		 * Returns if the entry is currently within a wheel.
+		 * 
+		 * @return If the entry is scheduled.
+		 */
+		public boolean isScheduled() {
+			return this.next != null && this.next != this;
+		}
+	}
+}
@@ -1,38 +1,38 @@
-/*
- * Paranoia
- * Copyright (C) 2020 ChampionAsh5357
- * 
- * This program is free software: you can redistribute it and/or modify
- * it under the terms of the GNU Lesser General Public License as 
- * published by the Free Software Foundation version 3.0 of the License.
- * 
- * This program is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU Lesser General Public License for more details.
- * 
- * You should have received a copy of the GNU Lesser General Public License
- * along with this program.  If not, see <https://www.gnu.org/licenses/>.
- */
-
-package io.github.championash5357.paranoia.client;
-
-import java.lang.reflect.Field;
-import java.util.Map;
-
-import net.minecraft.entity.Entity;
-import net.minecraftforge.fml.client.registry.ClientRegistry;
-import net.minecraftforge.fml.common.ObfuscationReflectionHelper;
-
-public class ClientRegistryHelper {
-
-	private static final Field ENTITY_SHADER_FIELD = ObfuscationReflectionHelper.findField(ClientRegistry.class, "entityShaderMap");
-	
-	public static void removeEntityShader(Class<? extends Entity> entityClass) {
-		try {
-			((Map<?, ?>) ENTITY_SHADER_FIELD.get(null)).remove(entityClass);
-		} catch (IllegalArgumentException | IllegalAccessException e) {
-			e.printStackTrace();
-		}
-	}
-}
+/*
+ * Paranoia
+ * Copyright (C) 2020 ChampionAsh5357
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as 
+ * published by the Free Software Foundation version 3.0 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.championash5357.paranoia.client;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+
+import net.minecraft.entity.Entity;
+import net.minecraftforge.fml.client.registry.ClientRegistry;
+import net.minecraftforge.fml.common.ObfuscationReflectionHelper;
+
+public class ClientRegistryHelper {
+
+	private static final Field ENTITY_SHADER_FIELD = ObfuscationReflectionHelper.findField(ClientRegistry.class, "entityShaderMap");
+	
+	public static void removeEntityShader(Class<? extends Entity> entityClass) {
+		try {
+			((Map<?, ?>) ENTITY_SHADER_FIELD.get(null)).remove(entityClass);
+		} catch (IllegalArgumentException | IllegalAccessException e) {
+			e.printStackTrace();
+		}
+	}
+}
@@ -1,39 +1,39 @@
-/*
- * Paranoia
- * Copyright (C) 2020 ChampionAsh5357
- * 
- * This program is free software: you can redistribute it and/or modify
- * it under the terms of the GNU Lesser General Public License as 
- * published by the Free Software Foundation version 3.0 of the License.
- * 
- * This program is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU Lesser General Public License for more details.
- * 
- * You should have received a copy of the GNU Lesser General Public License
- * along with this program.  If not, see <https://www.gnu.org/licenses/>.
- */
-
-package io.github.championash5357.paranoia.client.util;
-
-public class ValueTimer<T> {
-
-	private final T value;
-	private int timeRemaining;
-	public boolean remove;
-	
-	public ValueTimer(T value, int timeRemaining) {
-		this.value = value;
-		this.timeRemaining = timeRemaining;
-	}
-
-	public T getValue() {
-		return this.value;
-	}
-	
-	public void tick() {
-		this.timeRemaining--;
-		if(this.timeRemaining <= 0) this.remove = true;
-	}
-}
+/*
+ * Paranoia
+ * Copyright (C) 2020 ChampionAsh5357
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as 
+ * published by the Free Software Foundation version 3.0 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.championash5357.paranoia.client.util;
+
+public class ValueTimer<T> {
+
+	private final T value;
+	private int timeRemaining;
+	public boolean remove;
+	
+	public ValueTimer(T value, int timeRemaining) {
+		this.value = value;
+		this.timeRemaining = timeRemaining;
+	}
+
+	public T getValue() {
+		return this.value;
+	}
+	
+	public void tick() {
+		this.timeRemaining--;
+		if(this.timeRemaining <= 0) this.remove = true;
+	}
+}
@@ -23,7 +23,11 @@ import org.apache.logging.log4j.Logger;
 import io.github.championash5357.paranoia.api.callback.SanityCallbacks;
 import io.github.championash5357.paranoia.api.sanity.ISanity;
 import io.github.championash5357.paranoia.api.sanity.PlayerSanity;
+import io.github.championash5357.paranoia.api.sanity.SanityScheduler;
 import io.github.championash5357.paranoia.api.util.CapabilityInstances;
+import io.github.championash5357.paranoia.api.util.EffectQueue;
+import io.github.championash5357.paranoia.api.util.ISanityHolder;
+import io.github.championash5357.paranoia.api.util.TickableIds;
 import io.github.championash5357.paranoia.client.ClientReference;
 import io.github.championash5357.paranoia.common.init.*;
 import io.github.championash5357.paranoia.common.network.NetworkHandler;
@@ -39,6 +43,7 @@ import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.*;
 import net.minecraftforge.event.TickEvent.Phase;
 import net.minecraftforge.event.TickEvent.PlayerTickEvent;
+import net.minecraftforge.event.TickEvent.ServerTickEvent;
 import net.minecraftforge.event.entity.living.LivingDamageEvent;
 import net.minecraftforge.event.entity.living.LivingEntityUseItemEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent;
@@ -50,15 +55,20 @@ import net.minecraftforge.eventbus.api.IEventBus;
 import net.minecraftforge.fml.DistExecutor;
 import net.minecraftforge.fml.LogicalSide;
 import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.common.thread.EffectiveSide;
 import net.minecraftforge.fml.event.lifecycle.FMLCommonSetupEvent;
+import net.minecraftforge.fml.event.lifecycle.FMLLoadCompleteEvent;
 import net.minecraftforge.fml.event.lifecycle.GatherDataEvent;
+import net.minecraftforge.fml.event.server.FMLServerStoppedEvent;
 import net.minecraftforge.fml.javafmlmod.FMLJavaModLoadingContext;
 import net.minecraftforge.fml.network.simple.SimpleChannel;
+import net.minecraftforge.fml.server.ServerLifecycleHooks;
 
 @Mod(Paranoia.ID)
 public class Paranoia {
 
 	public static final String ID = "paranoia";
+	public static final int SLEEPING_TICKABLE = TickableIds.intern(new ResourceLocation(ID, "sleeping"));
 
 	public static final ISidedReference SIDED_SYSTEM = DistExecutor.safeRunForDist(() -> ClientReference::new, () -> DedicatedServerReference::new);
 	private static final Logger LOGGER = LogManager.getLogger();
@@ -73,17 +83,22 @@ public class Paranoia {
 
 		mod.addListener(this::setup);
 		mod.addListener(this::data);
+		mod.addListener(this::loadComplete);
+		ConfigRegistrar.register(mod);
 		SIDED_SYSTEM.setup(mod, forge);
 		forge.addGenericListener(Entity.class, this::attachPlayerCaps);
 		forge.addListener(this::registerCommands);
 		forge.addListener(this::attachListeners);
 		forge.addListener(this::playerLoggedIn);
 		forge.addListener(this::tickPlayer);
+		forge.addListener(this::tickServer);
+		forge.addListener(this::serverStopped);
 		forge.addListener(this::clonePlayer);
 		forge.addListener(EventPriority.LOWEST, this::damage);
 		forge.addListener(this::slept);
 		forge.addListener(this::wake);
 		forge.addListener(this::itemUse);
+		forge.addListener(this::tagsUpdated);
 	}
 
 	public static final Paranoia getInstance() {
@@ -107,9 +122,19 @@ public class Paranoia {
 		CallbackRegistrar.register();
 	}
 
+	private void loadComplete(final FMLLoadCompleteEvent event) {
+		SanityCallbacks.getMultipliers();
+		SanityCallbacks.getCallbackIndex();
+	}
+
 	private void attachPlayerCaps(final AttachCapabilitiesEvent<Entity> event) {
-		if(event.getObject() instanceof PlayerEntity)
-			event.addCapability(new ResourceLocation(ID, "sanity"), new CapabilityProviderSerializable<>(CapabilityInstances.SANITY_CAPABILITY, new PlayerSanity((PlayerEntity) event.getObject()), null).attachListeners(event::addListener));
+		if(event.getObject() instanceof PlayerEntity) {
+			ISanityHolder holder = (ISanityHolder) event.getObject();
+			PlayerSanity sanity = new PlayerSanity((PlayerEntity) event.getObject());
+			event.addCapability(new ResourceLocation(ID, "sanity"), new CapabilityProviderSerializable<>(CapabilityInstances.SANITY_CAPABILITY, sanity, null).attachListeners(event::addListener));
+			event.addListener(() -> holder.setParanoiaSanity(null));
+			holder.setParanoiaSanity(sanity);
+		}
 	}
 
 	private void registerCommands(final RegisterCommandsEvent event) {
@@ -117,61 +142,82 @@ public class Paranoia {
 	}
 
 	private void itemUse(final LivingEntityUseItemEvent.Finish event) {
-		if(event.getEntityLiving().isServerWorld() && event.getEntityLiving() instanceof PlayerEntity)
-			event.getEntityLiving().getCapability(CapabilityInstances.SANITY_CAPABILITY).ifPresent(sanity -> sanity.changeSanity(SanityCallbacks.getSanityManager().getItemSanityEffect(event.getItem().getItem())));
+		if(event.getEntityLiving().isServerWorld() && event.getEntityLiving() instanceof PlayerEntity) {
+			ISanity sanity = CapabilityInstances.getSanity((PlayerEntity) event.getEntityLiving());
+			if(sanity != null) sanity.changeSanity(SanityCallbacks.getSanityManager().getItemSanityEffect(event.getItem().getItem()));
+		}
 	}
 
 	private void damage(final LivingDamageEvent event) {
-		if(!event.isCanceled() && event.getEntityLiving().isServerWorld() && event.getEntityLiving() instanceof PlayerEntity && event.getSource().getTrueSource() != null)
-			event.getEntityLiving().getCapability(CapabilityInstances.SANITY_CAPABILITY).ifPresent(sanity -> sanity.changeSanity(SanityCallbacks.getSanityManager().getSanityLoss(event.getSource().getTrueSource().getType())));
+		if(!event.isCanceled() && event.getEntityLiving().isServerWorld() && event.getEntityLiving() instanceof PlayerEntity && event.getSource().getTrueSource() != null) {
+			ISanity sanity = CapabilityInstances.getSanity((PlayerEntity) event.getEntityLiving());
+			if(sanity != null) sanity.changeSanity(SanityCallbacks.getSanityManager().getSanityLoss(event.getSource().getTrueSource().getType()));
+		}
 	}
 
 	private void playerLoggedIn(final PlayerLoggedInEvent event) {
 		if(event.getPlayer().isServerWorld()) {
-			event.getPlayer().getCapability(CapabilityInstances.SANITY_CAPABILITY).ifPresent(sanity -> sanity.executeLoginCallbacks((ServerPlayerEntity) event.getPlayer()));
+			ISanity sanity = CapabilityInstances.getSanity(event.getPlayer());
+			if(sanity != null) sanity.executeLoginCallbacks((ServerPlayerEntity) event.getPlayer());
 		}
 	}
 
 	private void clonePlayer(final PlayerEvent.Clone event) {
-		event.getOriginal().getCapability(CapabilityInstances.SANITY_CAPABILITY).ifPresent(original -> {
-			event.getPlayer().getCapability(CapabilityInstances.SANITY_CAPABILITY).ifPresent(instance -> {
-				instance.deserializeNBT(original.serializeNBT());
-				if(event.isWasDeath()) {
-					instance.changeMaxSanity(-10, true);
-					instance.setSanity(instance.getMaxSanity(), true);
-				}
-			});
-		});
+		ISanity original = CapabilityInstances.getSanity(event.getOriginal()), instance = CapabilityInstances.getSanity(event.getPlayer());
+		if(original == null || instance == null) return;
+		instance.deserializeNBT(original.serializeNBT());
+		if(event.isWasDeath()) {
+			instance.changeMaxSanity(-10, true);
+			instance.setSanity(instance.getMaxSanity(), true);
+		}
 	}
 
 	private void slept(final SleepFinishedTimeEvent event) {
 		if(!event.getWorld().isRemote()) {
 			event.getWorld().getPlayers().forEach(player -> {
-				player.getCapability(CapabilityInstances.SANITY_CAPABILITY).ifPresent(sanity -> {
+				ISanity sanity = CapabilityInstances.getSanity(player);
+				if(sanity != null) {
 					sanity.changeMaxSanity(5);
 					sanity.changeSanity(15);
-				});
+				}
 			});
 		}
 	}
 
 	private void wake(final PlayerWakeUpEvent event) {
 		if(event.getPlayer().isServerWorld()) {
-			event.getPlayer().getCapability(CapabilityInstances.SANITY_CAPABILITY).ifPresent(sanity -> {
-				if(!sanity.removeTemporaryTickable(new ResourceLocation(Paranoia.ID, "sleeping"))) LOGGER.error("Tickable {} does not exist!", "paranoia:sleeping");
-			});
+			ISanity sanity = CapabilityInstances.getSanity(event.getPlayer());
+			if(sanity != null && !sanity.removeTemporaryTickable(SLEEPING_TICKABLE)) LOGGER.error("Tickable {} does not exist!", "paranoia:sleeping");
 		}
 	}
 
 	private void tickPlayer(final PlayerTickEvent event) {
 		if(event.side == LogicalSide.CLIENT || event.phase == Phase.START || !event.player.isAlive()) return;
-		event.player.getCapability(CapabilityInstances.SANITY_CAPABILITY).ifPresent(ISanity::tick);
+		ISanity sanity = CapabilityInstances.getSanity(event.player);
+		if(sanity != null) sanity.tick();
+	}
+
+	private void tickServer(final ServerTickEvent event) {
+		if(event.phase == Phase.END) {
+			SanityScheduler.updateStride(ServerLifecycleHooks.getCurrentServer().getTickTime());
+			SanityScheduler.tick();
+			EffectQueue.tick();
+		}
+	}
+
+	private void serverStopped(final FMLServerStoppedEvent event) {
+		SanityScheduler.reset();
+		EffectQueue.reset();
 	}
 
 	private void attachListeners(final AddReloadListenerEvent event) {
 		event.addListener(SanityCallbacks.getSanityManager());
 	}
 
+	private void tagsUpdated(final TagsUpdatedEvent event) {
+		if(EffectiveSide.get() == LogicalSide.SERVER) SanityCallbacks.getSanityManager().bindTags(event.getTagManager());
+	}
+
 	private void addLanguageProviders(final DataGenerator gen) {
 		for(String locale : new String[] {"en_us"}) gen.addProvider(new Localizations(gen, locale));
 	}
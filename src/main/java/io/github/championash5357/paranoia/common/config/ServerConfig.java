@@ -0,0 +1,85 @@
+/*
+ * Paranoia
+ * Copyright (C) 2020 ChampionAsh5357
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as 
+ * published by the Free Software Foundation version 3.0 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.championash5357.paranoia.common.config;
+
+import io.github.championash5357.paranoia.api.sanity.LightSampler;
+import io.github.championash5357.paranoia.api.sanity.SanityScheduler;
+import io.github.championash5357.paranoia.api.util.EffectQueue;
+import io.github.championash5357.paranoia.api.util.Stagger;
+import net.minecraftforge.common.ForgeConfigSpec;
+
+public class ServerConfig {
+
+	public final ForgeConfigSpec.IntValue lightSampleInterval;
+	public final ForgeConfigSpec.BooleanValue batchPlayers;
+	public final ForgeConfigSpec.IntValue parallelThreshold;
+	public final ForgeConfigSpec.BooleanValue coalesceChanges;
+	public final ForgeConfigSpec.IntValue idleMinutes;
+	public final ForgeConfigSpec.DoubleValue targetMspt;
+	public final ForgeConfigSpec.IntValue maxStride;
+	public final ForgeConfigSpec.IntValue staggerWindow;
+	public final ForgeConfigSpec.IntValue effectBudget;
+	public final ForgeConfigSpec.IntValue catchUpMinutes;
+
+	public ServerConfig(ForgeConfigSpec.Builder builder) {
+		builder.comment("Settings for how sanity is calculated on the server.").push("sanity");
+		this.lightSampleInterval = builder.comment("The minimum number of ticks between two light samples of the same player.",
+				"Samples are always reused until the light around the player changes. Values above 1 also reuse",
+				"samples for a moving player until the interval has passed.")
+				.defineInRange("lightSampleInterval", 0, 0, 200);
+		this.batchPlayers = builder.comment("When enabled, the tick information of all players due on the same tick is computed in a single pass",
+				"before any sanity changes or attacks are applied. Only worth enabling with a large number of players online.")
+				.define("batchPlayers", false);
+		this.parallelThreshold = builder.comment("The minimum number of players due on the same tick before their tick information is computed across",
+				"multiple threads. Sanity changes and attacks are still applied on the server thread. Requires batchPlayers. 0 disables.")
+				.defineInRange("parallelThreshold", 0, 0, 100000);
+		this.coalesceChanges = builder.comment("When enabled, all sanity changes a player receives within the same tick are reported to the callbacks",
+				"once at the end of the tick instead of after every single change.")
+				.define("coalesceChanges", false);
+		this.idleMinutes = builder.comment("The number of minutes a player must be idle for before their sanity stops changing until they move",
+				"or are damaged. 0 disables.")
+				.defineInRange("idleMinutes", 0, 0, 1440);
+		this.targetMspt = builder.comment("The milliseconds per tick above which players are woken less often to reduce load. Sanity, max sanity",
+				"and attacks still happen at the same rate, but every change due since the last wakeup is applied at once. 0 disables.")
+				.defineInRange("targetMspt", 0.0, 0.0, 1000.0);
+		this.maxStride = builder.comment("The maximum number of ticks between two wakeups of a player while the server is above the target mspt.")
+				.defineInRange("maxStride", 4, 1, 20);
+		this.staggerWindow = builder.comment("The number of ticks periodic work such as input checks and timers is spread over. Players are",
+				"bucketed by entity id so that their work does not land on the same tick. 1 disables.")
+				.defineInRange("staggerWindow", 1, 1, 200);
+		this.effectBudget = builder.comment("The number of microseconds per tick that sanity effects can take up. Once used up, effects such as",
+				"dropping items or teleports are deferred to a later tick and hallucinations are skipped. 0 disables.")
+				.defineInRange("effectBudget", 0, 0, 50000);
+		this.catchUpMinutes = builder.comment("The maximum number of minutes spent offline a player catches up on when they log back in. The time",
+				"is computed at once using the light and health the player logs in with. No attacks are applied. 0 disables.")
+				.defineInRange("catchUpMinutes", 0, 0, 10080);
+		builder.pop();
+	}
+
+	public void bake() {
+		LightSampler.setSampleInterval(this.lightSampleInterval.get());
+		SanityScheduler.setBatched(this.batchPlayers.get());
+		SanityScheduler.setParallelThreshold(this.parallelThreshold.get());
+		SanityScheduler.setCoalesced(this.coalesceChanges.get());
+		SanityScheduler.setIdleMinutes(this.idleMinutes.get());
+		SanityScheduler.setStrideLimits(this.targetMspt.get().floatValue(), this.maxStride.get());
+		Stagger.setWindow(this.staggerWindow.get());
+		EffectQueue.setBudget(this.effectBudget.get());
+		SanityScheduler.setCatchUpMinutes(this.catchUpMinutes.get());
+	}
+}
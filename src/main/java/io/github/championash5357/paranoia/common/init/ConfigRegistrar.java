@@ -0,0 +1,44 @@
+/*
+ * Paranoia
+ * Copyright (C) 2020 ChampionAsh5357
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as 
+ * published by the Free Software Foundation version 3.0 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.championash5357.paranoia.common.init;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import io.github.championash5357.paranoia.common.config.ServerConfig;
+import net.minecraftforge.common.ForgeConfigSpec;
+import net.minecraftforge.eventbus.api.IEventBus;
+import net.minecraftforge.fml.ModLoadingContext;
+import net.minecraftforge.fml.config.ModConfig;
+
+public class ConfigRegistrar {
+
+	private static final Pair<ServerConfig, ForgeConfigSpec> SERVER = new ForgeConfigSpec.Builder().configure(ServerConfig::new);
+
+	public static void register(IEventBus mod) {
+		ModLoadingContext.get().registerConfig(ModConfig.Type.SERVER, SERVER.getRight());
+		mod.addListener(ConfigRegistrar::bake);
+	}
+
+	public static ServerConfig server() {
+		return SERVER.getLeft();
+	}
+
+	private static void bake(final ModConfig.ModConfigEvent event) {
+		if(event.getConfig().getSpec() == SERVER.getRight()) SERVER.getLeft().bake();
+	}
+}
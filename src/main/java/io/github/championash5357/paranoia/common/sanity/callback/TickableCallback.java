@@ -1,70 +1,81 @@
-/*
- * Paranoia
- * Copyright (C) 2020 ChampionAsh5357
- * 
- * This program is free software: you can redistribute it and/or modify
- * it under the terms of the GNU Lesser General Public License as 
- * published by the Free Software Foundation version 3.0 of the License.
- * 
- * This program is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU Lesser General Public License for more details.
- * 
- * You should have received a copy of the GNU Lesser General Public License
- * along with this program.  If not, see <https://www.gnu.org/licenses/>.
- */
-
-package io.github.championash5357.paranoia.common.sanity.callback;
-
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
-
-import org.apache.commons.lang3.tuple.Pair;
-
-import io.github.championash5357.paranoia.api.callback.ICallback;
-import io.github.championash5357.paranoia.api.callback.SanityCallbacks;
-import io.github.championash5357.paranoia.api.sanity.ISanity;
-import io.github.championash5357.paranoia.api.util.ITickable;
-import net.minecraft.entity.player.ServerPlayerEntity;
-import net.minecraft.util.ResourceLocation;
-
-public class TickableCallback implements ICallback {
-
-	private final Map<ResourceLocation, Pair<Integer, ITickable>> tickables = new HashMap<>();
-	private final Map<Integer, Set<ResourceLocation>> active = new HashMap<>();
-
-	public TickableCallback() {
-		SanityCallbacks.getTickables().forEach(this.tickables::put);
-	}
-
-	@Override
-	public void call(ServerPlayerEntity player, ISanity inst, int sanity, int prevSanity, Phase phase) {
-		if(phase == Phase.STOP) this.active.values().stream().flatMap(Set<ResourceLocation>::stream).forEach(inst::removeTemporaryTickable);
-		else if(phase == Phase.START) {
-			this.tickables.entrySet().stream().filter(entry -> entry.getValue().getLeft() >= sanity).forEach(entry -> {
-				inst.addTemporaryTickable(entry.getKey(), entry.getValue().getRight());
-				this.active.computeIfAbsent(entry.getValue().getLeft(), (a) -> new HashSet<>()).add(entry.getKey());
-			});
-		} else {
-			if(prevSanity > sanity) {
-				this.tickables.entrySet().stream().filter(entry -> entry.getValue().getLeft() >= sanity && entry.getValue().getLeft() < prevSanity).forEach(entry -> {
-					inst.addTemporaryTickable(entry.getKey(), entry.getValue().getRight());
-					this.active.computeIfAbsent(entry.getValue().getLeft(), (a) -> new HashSet<>()).add(entry.getKey());
-				});
-			} else {
-				for(int i = prevSanity; i < sanity; i++) {
-					this.active.getOrDefault(i, new HashSet<>()).forEach(inst::removeTemporaryTickable);
-					this.active.remove(i);
-				}
-			}
-		}
-	}
-
-	@Override
-	public boolean restartOnReload() {
-		return true;
-	}
-}
+/*
+ * Paranoia
+ * Copyright (C) 2020 ChampionAsh5357
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as 
+ * published by the Free Software Foundation version 3.0 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.championash5357.paranoia.common.sanity.callback;
+
+import java.util.Map;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import io.github.championash5357.paranoia.api.callback.ICallback;
+import io.github.championash5357.paranoia.api.callback.SanityCallbacks;
+import io.github.championash5357.paranoia.api.sanity.ISanity;
+import io.github.championash5357.paranoia.api.util.ITickable;
+import io.github.championash5357.paranoia.api.util.TickableIds;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.util.ResourceLocation;
+
+public class TickableCallback implements ICallback {
+
+	private final int[] ids, levels;
+	private final ITickable[] tickables;
+	private final boolean[] active;
+
+	public TickableCallback() {
+		Map<ResourceLocation, Pair<Integer, ITickable>> tickables = SanityCallbacks.getTickables();
+		this.ids = new int[tickables.size()];
+		this.levels = new int[tickables.size()];
+		this.tickables = new ITickable[tickables.size()];
+		this.active = new boolean[tickables.size()];
+		int i = 0;
+		for(Map.Entry<ResourceLocation, Pair<Integer, ITickable>> entry : tickables.entrySet()) {
+			this.ids[i] = TickableIds.intern(entry.getKey());
+			this.levels[i] = entry.getValue().getLeft();
+			this.tickables[i++] = entry.getValue().getRight();
+		}
+	}
+
+	@Override
+	public void call(ServerPlayerEntity player, ISanity inst, int sanity, int prevSanity, Phase phase) {
+		if(phase == Phase.STOP) {
+			for(int i = 0; i < this.ids.length; ++i) if(this.active[i]) this.remove(inst, i);
+		} else if(phase == Phase.START) {
+			for(int i = 0; i < this.ids.length; ++i) if(this.levels[i] >= sanity) this.add(inst, i);
+		} else {
+			if(prevSanity > sanity) {
+				for(int i = 0; i < this.ids.length; ++i) if(this.levels[i] >= sanity && this.levels[i] < prevSanity) this.add(inst, i);
+			} else {
+				for(int i = 0; i < this.ids.length; ++i) if(this.active[i] && this.levels[i] >= prevSanity && this.levels[i] < sanity) this.remove(inst, i);
+			}
+		}
+	}
+
+	private void add(ISanity inst, int i) {
+		inst.addTemporaryTickable(this.ids[i], this.tickables[i]);
+		this.active[i] = true;
+	}
+
+	private void remove(ISanity inst, int i) {
+		inst.removeTemporaryTickable(this.ids[i]);
+		this.active[i] = false;
+	}
+
+	@Override
+	public boolean restartOnReload() {
+		return true;
+	}
+}